@@ -0,0 +1,34 @@
+package com.mobile.server.domain.auth.cache;
+
+import com.mobile.server.domain.auth.entity.User;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+//User 엔티티 변경 시 UserRoleCache 에서 제거 (다음 조회 때 커밋된 권한을 다시 읽음)
+//@PostUpdate/@PostRemove 는 flush 시점(커밋 전)에 호출되므로 커밋 이후에 제거 -> 롤백된 권한이 캐시되지 않음
+@Component
+@RequiredArgsConstructor
+public class UserCacheListener {
+
+    private final UserRoleCache userRoleCache;
+
+    @PostUpdate
+    @PostRemove
+    public void evict(User user) {
+        Long userId = user.getId();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            userRoleCache.evict(userId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                userRoleCache.evict(userId);
+            }
+        });
+    }
+}
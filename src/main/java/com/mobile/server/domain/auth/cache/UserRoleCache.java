@@ -0,0 +1,130 @@
+package com.mobile.server.domain.auth.cache;
+
+import com.mobile.server.domain.auth.entity.RoleType;
+import com.mobile.server.domain.auth.repository.UserRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/*
+사용자 존재 여부 + 권한 캐시
+- JWTFilter 의 요청마다 발생하던 users 테이블 조회를 대체
+- 회원가입 시 채우고, 사용자 수정/삭제가 커밋되면 UserCacheListener 가 제거
+- miss 인 경우에만 DB 에서 권한을 조회해 채움 (존재하지 않는 사용자는 캐시하지 않음)
+- max-size 초과 시 가장 오래 사용되지 않은 항목부터 제거 (LRU), ttl 이 지난 항목은 다시 조회
+  (다른 인스턴스에서 바뀐 권한/삭제도 ttl 안에 반영)
+ */
+@Component
+public class UserRoleCache implements MeterBinder {
+
+    private final UserRepository userRepository;
+    private final int maxSize;
+    private final long ttlMs;
+    private final Map<Long, CachedRole> roles;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+
+    public UserRoleCache(UserRepository userRepository,
+                         @Value("${app.cache.user-role.max-size:50000}") int maxSize,
+                         @Value("${app.cache.user-role.ttl:10m}") Duration ttl) {
+        this.userRepository = userRepository;
+        this.maxSize = maxSize;
+        this.ttlMs = ttl.toMillis();
+        this.roles = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, CachedRole> eldest) {
+                return size() > UserRoleCache.this.maxSize;
+            }
+        };
+    }
+
+    //사용자 권한 조회 (존재하지 않는 사용자면 empty)
+    public Optional<RoleType> findRole(Long userId) {
+        CachedRole cached;
+        synchronized (roles) {
+            cached = roles.get(userId);
+            if (cached != null && cached.expiresAtMs() <= System.currentTimeMillis()) {
+                roles.remove(userId);
+                cached = null;
+            }
+        }
+        if (cached != null) {
+            hitCount.increment();
+            return Optional.of(cached.role());
+        }
+        missCount.increment();
+        Optional<RoleType> loaded = userRepository.findRoleById(userId);
+        loaded.ifPresent(r -> put(userId, r));
+        return loaded;
+    }
+
+    public void put(Long userId, RoleType role) {
+        if (userId == null || role == null) {
+            return;
+        }
+        synchronized (roles) {
+            roles.put(userId, new CachedRole(role, System.currentTimeMillis() + ttlMs));
+        }
+    }
+
+    public void evict(Long userId) {
+        if (userId != null) {
+            synchronized (roles) {
+                roles.remove(userId);
+            }
+        }
+    }
+
+    public void clear() {
+        synchronized (roles) {
+            roles.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (roles) {
+            return roles.size();
+        }
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public double getHitRatio() {
+        long hits = hitCount.sum();
+        long total = hits + missCount.sum();
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("auth.user.cache.hits", hitCount, LongAdder::sum)
+                .description("JWTFilter 사용자 확인 캐시 hit 수")
+                .register(registry);
+        FunctionCounter.builder("auth.user.cache.misses", missCount, LongAdder::sum)
+                .description("JWTFilter 사용자 확인 캐시 miss 수 (DB 조회 발생)")
+                .register(registry);
+        Gauge.builder("auth.user.cache.hit.ratio", this, UserRoleCache::getHitRatio)
+                .description("JWTFilter 사용자 확인 캐시 hit 비율")
+                .register(registry);
+        Gauge.builder("auth.user.cache.size", this, UserRoleCache::size)
+                .register(registry);
+    }
+
+    private record CachedRole(RoleType role, long expiresAtMs) {
+    }
+}
@@ -0,0 +1,29 @@
+package com.mobile.server.domain.auth.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/*
+BCrypt 전용 스레드풀
+- 로그인 폭주 시 Tomcat 요청 스레드 전체가 BCrypt 연산에 묶이지 않도록 동시 연산 수를 제한
+- 대기열이 가득 차면 RejectedExecutionException -> 503 + Retry-After
+ */
+@Configuration
+public class PasswordHashConfig {
+
+    @Bean(name = "passwordHashExecutor")
+    public ThreadPoolTaskExecutor passwordHashExecutor(
+            @Value("${app.auth.login.pool-size:0}") int poolSize,
+            @Value("${app.auth.login.queue-capacity:64}") int queueCapacity) {
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("password-hash-");
+        executor.initialize();
+        return executor;
+    }
+}
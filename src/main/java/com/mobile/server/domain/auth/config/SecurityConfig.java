@@ -1,9 +1,10 @@
 package com.mobile.server.domain.auth.config;
 
+import com.mobile.server.domain.auth.cache.UserRoleCache;
 import com.mobile.server.domain.auth.jwt.JWTFilter;
 import com.mobile.server.domain.auth.jwt.JWTService;
-import com.mobile.server.domain.auth.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -21,11 +22,11 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 public class SecurityConfig {
 
     private final JWTService jwtService;
-    private final UserRepository userRepository;
+    private final UserRoleCache userRoleCache;
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${app.auth.bcrypt.strength:10}") int strength) {
+        return new BCryptPasswordEncoder(strength);
     }
 
     @Bean
@@ -45,7 +46,7 @@ public class SecurityConfig {
                         ).permitAll()
                         .anyRequest().authenticated()
                 )
-                .addFilterBefore(new JWTFilter(jwtService, userRepository), UsernamePasswordAuthenticationFilter.class)
+                .addFilterBefore(new JWTFilter(jwtService, userRoleCache), UsernamePasswordAuthenticationFilter.class)
                 .build();
     }
 }
\ No newline at end of file
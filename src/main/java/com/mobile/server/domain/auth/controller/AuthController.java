@@ -6,6 +6,9 @@ import com.mobile.server.domain.auth.dto.SignInRes;
 import com.mobile.server.domain.auth.dto.SignUpReq;
 import com.mobile.server.domain.auth.entity.User;
 import com.mobile.server.domain.auth.jwt.JWTService;
+import com.mobile.server.domain.auth.refresh.IssuedTokens;
+import com.mobile.server.domain.auth.refresh.RefreshCookie;
+import com.mobile.server.domain.auth.refresh.RefreshTokenService;
 import com.mobile.server.domain.auth.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -16,8 +19,10 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CookieValue;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -33,6 +38,8 @@ public class AuthController {
 
     private final UserService userService;
     private final JWTService jwtService;
+    private final RefreshTokenService refreshTokenService;
+    private final RefreshCookie refreshCookie;
 
     //회원가입
     @Operation(summary = "회원가입", description = "학번, 비밀번호, 닉네임을 입력받아 회원가입을 처리합니다.")
@@ -118,7 +125,7 @@ public class AuthController {
     }
 
     //로그인
-    @Operation(summary = "로그인", description = "학번과 비밀번호로 로그인하여 JWT 액세스 토큰을 발급받습니다.")
+    @Operation(summary = "로그인", description = "학번과 비밀번호로 로그인하여 JWT 액세스 토큰을 발급받습니다. 리프레시 토큰은 HttpOnly 쿠키(refresh_token)로 발급됩니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "로그인 성공"),
             @ApiResponse(responseCode = "400", description = "유효하지 않은 파라미터",
@@ -149,22 +156,51 @@ public class AuthController {
     public ResponseEntity<SignInRes> login(@Valid @RequestBody SignInReq signInReq) {
         User user = userService.verify(signInReq.getStudentId(), signInReq.getPassword());
         String access = jwtService.generateAccessToken(user);
-        return ResponseEntity.ok(new SignInRes(access, user.getNickname(), user.getRole()));
+        String refresh = refreshTokenService.issue(user);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.SET_COOKIE, refreshCookie.create(refresh).toString())
+                .body(new SignInRes(access, user.getNickname(), user.getRole()));
     }
 
     //로그아웃
-    @Operation(summary = "로그아웃", description = "현재 로그인된 사용자를 로그아웃 처리합니다. (현재는 클라이언트 측에서 토큰 삭제 처리)")
+    @Operation(summary = "로그아웃", description = "현재 로그인 세션의 리프레시 토큰을 폐기하고 쿠키를 삭제합니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "로그아웃 성공")
     })
     @PostMapping("/logout")
-    public ResponseEntity<String> logout() {
-        return ResponseEntity.ok("로그아웃 성공");
+    public ResponseEntity<String> logout(
+            @CookieValue(name = RefreshCookie.NAME, required = false) String refreshToken) {
+        if (refreshToken != null) {
+            refreshTokenService.revoke(refreshToken);
+        }
+        return ResponseEntity.ok()
+                .header(HttpHeaders.SET_COOKIE, refreshCookie.expire().toString())
+                .body("로그아웃 성공");
     }
 
-    //Refresh 토큰 (나중에 구현)
+    //Refresh 토큰 회전
+    @Operation(summary = "토큰 재발급", description = "refresh_token 쿠키로 새 액세스 토큰과 리프레시 토큰을 발급받습니다. 사용된 리프레시 토큰은 즉시 폐기되며, 폐기된 토큰이 다시 사용되면 해당 세션 전체가 폐기됩니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "재발급 성공"),
+            @ApiResponse(responseCode = "401", description = "유효하지 않거나 재사용된 리프레시 토큰",
+                    content = @Content(mediaType = "application/problem+json",
+                            examples = @ExampleObject(value = """
+                                    {
+                                      "type": "about:blank",
+                                      "title": "Unauthorized",
+                                      "status": 401,
+                                      "detail": "유효하지 않은 리프레시 토큰입니다. 다시 로그인해 주세요.",
+                                      "instance": "/api/auth/refresh"
+                                    }
+                                    """)))
+    })
     @PostMapping("/refresh")
-    public ResponseEntity<?> refresh() {
-        return ResponseEntity.status(HttpStatus.NOT_IMPLEMENTED).body("Refresh not implemented yet");
+    public ResponseEntity<SignInRes> refresh(
+            @CookieValue(name = RefreshCookie.NAME, required = false) String refreshToken) {
+        IssuedTokens tokens = refreshTokenService.rotate(refreshToken);
+        User user = tokens.user();
+        return ResponseEntity.ok()
+                .header(HttpHeaders.SET_COOKIE, refreshCookie.create(tokens.refreshToken()).toString())
+                .body(new SignInRes(tokens.accessToken(), user.getNickname(), user.getRole()));
     }
 }
@@ -1,9 +1,11 @@
 package com.mobile.server.domain.auth.entity;
 
+import com.mobile.server.domain.auth.cache.UserCacheListener;
 import com.mobile.server.domain.common.BaseCreatedEntity;
 import com.mobile.server.domain.file.domain.File;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
@@ -25,6 +27,7 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @Builder
 @Table(name = "users")
+@EntityListeners(UserCacheListener.class)
 public class User extends BaseCreatedEntity {
 
     @Id
@@ -52,10 +55,6 @@ public class User extends BaseCreatedEntity {
     @JoinColumn
     private File profileImage;
 
-    public void grantMissionPoint(Long rewardPoint) {
-        cumulativePoint += rewardPoint;
-    }
-
     public void updatePoint(Long point) {
         this.cumulativePoint = point;
     }
@@ -1,5 +1,6 @@
 package com.mobile.server.domain.auth.jwt;
 
+import com.mobile.server.domain.auth.entity.RoleType;
 import com.mobile.server.domain.auth.entity.User;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -13,26 +14,34 @@ public class CustomUserDetails implements UserDetails {
     private final Long userId;
     private final String username;
     private final String password;
+    private final RoleType role;
     private final Collection<? extends GrantedAuthority> authorities;
 
     public CustomUserDetails(User user) {
         this.userId = user.getId();
         this.username = user.getStudentId();
         this.password = user.getPassword();
+        this.role = user.getRole();
         this.authorities = Collections.singletonList(new SimpleGrantedAuthority(user.getRole().name()));
     }
 
-    public CustomUserDetails(Long userId, String studentId, String password, Collection<? extends GrantedAuthority> authorities) {
+    public CustomUserDetails(Long userId, String studentId, String password, RoleType role) {
         this.userId = userId;
         this.username = studentId;
         this.password = password;
-        this.authorities = authorities;
+        this.role = role;
+        this.authorities = Collections.singletonList(role);
     }
 
     public Long getUserId() {
         return userId;
     }
 
+    //JWT 에서 가져온 권한 (DB 조회 없이 권한 검사에 사용)
+    public RoleType getRole() {
+        return role;
+    }
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         return authorities;
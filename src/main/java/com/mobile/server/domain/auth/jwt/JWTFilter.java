@@ -1,27 +1,25 @@
 package com.mobile.server.domain.auth.jwt;
 
-import com.mobile.server.domain.auth.repository.UserRepository;
+import com.mobile.server.domain.auth.cache.UserRoleCache;
+import com.mobile.server.domain.auth.entity.RoleType;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.Collection;
-import java.util.Collections;
+import java.util.Optional;
 
 @RequiredArgsConstructor
 public class JWTFilter extends OncePerRequestFilter {
 
     private final JWTService jwtService;
-    private final UserRepository userRepository;
+    private final UserRoleCache userRoleCache;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
@@ -39,23 +37,21 @@ public class JWTFilter extends OncePerRequestFilter {
             return;
         }
         try {
-            if (!jwtService.validateToken(token)) {
+            Optional<TokenClaims> parsed = jwtService.parseToken(token);
+            if (parsed.isEmpty()) {
                 chain.doFilter(request, response);
                 return;
             }
 
-            Long userId = jwtService.getUserIdFromToken(token);
-            if (!userRepository.existsById(userId)) {
+            TokenClaims claims = parsed.get();
+            Long userId = claims.userId();
+            Optional<RoleType> currentRole = userRoleCache.findRole(userId);
+            if (currentRole.isEmpty() || !currentRole.get().name().equals(claims.role())) {
                 chain.doFilter(request, response);
                 return;
             }
 
-            String studentId = jwtService.getStudentIdFromToken(token);
-            String role = jwtService.getRoleFromToken(token);
-
-            Collection<? extends GrantedAuthority> authorities = Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + role));
-
-            UserDetails principal = new CustomUserDetails(userId, studentId, "", authorities);
+            UserDetails principal = new CustomUserDetails(userId, claims.studentId(), "", currentRole.get());
 
             UsernamePasswordAuthenticationToken authentication =
                     new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
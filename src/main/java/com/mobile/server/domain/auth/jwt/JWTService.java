@@ -4,6 +4,8 @@ import com.mobile.server.domain.auth.entity.User;
 import com.mobile.server.domain.auth.repository.UserRepository;
 import com.mobile.server.util.exception.BusinessErrorCode;
 import com.mobile.server.util.exception.BusinessException;
+import io.jsonwebtoken.JwtException;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -13,6 +15,7 @@ public class JWTService {
 
     private final JWTUtil jwtUtil;
     private final UserRepository userRepository;
+    private final VerifiedTokenCache verifiedTokenCache;
 
     //AccessToken 발급
     public String generateAccessToken(User user) {
@@ -24,6 +27,24 @@ public class JWTService {
         return !jwtUtil.isExpired(token);
     }
 
+    //토큰 검증 + Claims 추출 (캐시 hit 시 서명 검증 생략)
+    public Optional<TokenClaims> parseToken(String token) {
+        return verifiedTokenCache.getOrVerify(token, this::verifyToken);
+    }
+
+    //서명 검증 1회로 Claims 추출
+    private Optional<TokenClaims> verifyToken(String token) {
+        try {
+            TokenClaims claims = jwtUtil.parseClaims(token);
+            if (claims.userId() == null || claims.isExpired()) {
+                return Optional.empty();
+            }
+            return Optional.of(claims);
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
     //UserId 추출
     public Long getUserIdFromToken(String token) {
         return jwtUtil.parseUserId(token);
@@ -1,65 +1,123 @@
 package com.mobile.server.domain.auth.jwt;
 
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.UnsupportedJwtException;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.Date;
 
 import io.jsonwebtoken.Jwts;
 
 
 @Component
-public class JWTUtil {
+public class JWTUtil implements TokenProvider {
+
+    private static final String TYPE_CLAIM = "type";
 
     private final SecretKey secretKey;
 
+    //서명 검증용 파서 (thread-safe, 재사용)
+    private final JwtParser jwtParser;
+
     //AccessToken 유효기간(15분)
     private static final long ACCESS_TTL_MS = 15 * 60 * 1000;
 
-    public JWTUtil(@Value("${spring.jwt.secret}") String secret) {
+    //RefreshToken 유효기간 (회전할 때마다 연장)
+    private final Duration refreshTtl;
+
+    public JWTUtil(@Value("${spring.jwt.secret}") String secret,
+                   @Value("${spring.jwt.refresh-ttl:14d}") Duration refreshTtl) {
         this.secretKey = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256");
+        this.jwtParser = Jwts.parser().verifyWith(secretKey).build();
+        this.refreshTtl = refreshTtl;
+    }
+
+    public Duration getRefreshTtl() {
+        return refreshTtl;
     }
 
     //AccessToken 생성
+    @Override
     public String createAccessToken(Long userId, String studentId, String role) {
         Date now = new Date();
         return Jwts.builder()
                 .claim("userId",userId)
                 .claim("studentId",studentId)
                 .claim("role",role)
+                .claim(TYPE_CLAIM, TokenType.ACCESS.name())
                 .issuedAt(now)
                 .expiration(new Date(now.getTime() + ACCESS_TTL_MS))
                 .signWith(secretKey)
                 .compact();
     }
 
+    //RefreshToken 생성 (familyId: 로그인 세션, rotateId: 회전마다 새로 발급)
+    @Override
+    public String createRefreshToken(Long userId, String familyId, String rotateId) {
+        Date now = new Date();
+        return Jwts.builder()
+                .claim("userId", userId)
+                .claim("familyId", familyId)
+                .claim(TYPE_CLAIM, TokenType.REFRESH.name())
+                .id(rotateId)
+                .issuedAt(now)
+                .expiration(new Date(now.getTime() + refreshTtl.toMillis()))
+                .signWith(secretKey)
+                .compact();
+    }
+
+    //서명 검증 1회로 전체 claim 파싱 (만료 시 ExpiredJwtException)
+    @Override
+    public TokenClaims parseClaims(String token) {
+        Claims claims = jwtParser.parseSignedClaims(token).getPayload();
+        if (TokenType.REFRESH.name().equals(claims.get(TYPE_CLAIM, String.class))) {
+            throw new UnsupportedJwtException("RefreshToken 은 인증에 사용할 수 없습니다.");
+        }
+        return TokenClaims.from(claims);
+    }
+
+    //RefreshToken 파싱
+    @Override
+    public RefreshTokenClaims parseRefreshClaims(String token) {
+        Claims claims = jwtParser.parseSignedClaims(token).getPayload();
+        if (!TokenType.REFRESH.name().equals(claims.get(TYPE_CLAIM, String.class))) {
+            throw new UnsupportedJwtException("RefreshToken 이 아닙니다.");
+        }
+        Number userId = claims.get("userId", Number.class);
+        return new RefreshTokenClaims(
+                userId == null ? null : userId.longValue(),
+                claims.get("familyId", String.class),
+                claims.getId(),
+                claims.getExpiration());
+    }
+
     //userId 파싱
+    @Override
     public Long parseUserId(String token) {
-        return Jwts.parser().verifyWith(secretKey).build()
-                .parseSignedClaims(token).getPayload().get("userId", Number.class).longValue();
+        return parseClaims(token).userId();
     }
 
     //studentId 파싱
     public String parseStudentId(String token) {
-        return Jwts.parser().verifyWith(secretKey).build()
-                .parseSignedClaims(token).getPayload().get("studentId", String.class);
+        return parseClaims(token).studentId();
     }
 
     //role 파싱
+    @Override
     public String parseRole(String token) {
-        return Jwts.parser().verifyWith(secretKey).build()
-                .parseSignedClaims(token).getPayload().get("role", String.class);
+        return parseClaims(token).role();
     }
 
     public boolean isExpired(String token) {
         try {
-            Date exp = Jwts.parser().verifyWith(secretKey).build()
-                    .parseSignedClaims(token).getPayload().getExpiration();
-            return exp.before(new Date());
+            return parseClaims(token).isExpired();
         } catch (JwtException e) {
             return true;
         }
@@ -0,0 +1,10 @@
+package com.mobile.server.domain.auth.jwt;
+
+import java.util.Date;
+
+public record RefreshTokenClaims(
+        Long userId,
+        String familyId,
+        String rotateId,
+        Date expiration) {
+}
@@ -0,0 +1,24 @@
+package com.mobile.server.domain.auth.jwt;
+
+import io.jsonwebtoken.Claims;
+import java.util.Date;
+
+public record TokenClaims(
+        Long userId,
+        String studentId,
+        String role,
+        Date expiration) {
+
+    static TokenClaims from(Claims claims) {
+        Number userId = claims.get("userId", Number.class);
+        return new TokenClaims(
+                userId == null ? null : userId.longValue(),
+                claims.get("studentId", String.class),
+                claims.get("role", String.class),
+                claims.getExpiration());
+    }
+
+    public boolean isExpired() {
+        return expiration == null || expiration.before(new Date());
+    }
+}
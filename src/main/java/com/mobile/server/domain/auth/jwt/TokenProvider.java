@@ -1,8 +1,10 @@
 package com.mobile.server.domain.auth.jwt;
 
 public interface TokenProvider {
-    String createAccessToken(Long userId, String role);
-    String createRefreshToken(Long userId, String rotateId);
+    String createAccessToken(Long userId, String studentId, String role);
+    String createRefreshToken(Long userId, String familyId, String rotateId);
+    TokenClaims parseClaims(String token);
+    RefreshTokenClaims parseRefreshClaims(String token);
     Long parseUserId(String token);
     String parseRole(String token);
-}
\ No newline at end of file
+}
@@ -0,0 +1,110 @@
+package com.mobile.server.domain.auth.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/*
+검증이 끝난 AccessToken 의 Claims 캐시
+- key: 토큰 SHA-256 digest (원본 토큰은 보관하지 않음)
+- 토큰 exp 또는 설정된 ttl 중 빠른 시점까지만 유효
+- max-size 초과 시 가장 오래 사용되지 않은 항목부터 제거 (LRU)
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final int maxSize;
+    private final long ttlMs;
+    private final Map<String, CachedClaims> cache;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+
+    public VerifiedTokenCache(@Value("${spring.jwt.cache.max-size:10000}") int maxSize,
+                              @Value("${spring.jwt.cache.ttl:15m}") Duration ttl) {
+        this.maxSize = maxSize;
+        this.ttlMs = ttl.toMillis();
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedClaims> eldest) {
+                return size() > VerifiedTokenCache.this.maxSize;
+            }
+        };
+    }
+
+    //캐시 hit 시 저장된 Claims 반환, miss 시 verifier 로 검증 후 저장
+    public Optional<TokenClaims> getOrVerify(String token, Function<String, Optional<TokenClaims>> verifier) {
+        String key = digest(token);
+        long now = System.currentTimeMillis();
+
+        CachedClaims cached;
+        synchronized (cache) {
+            cached = cache.get(key);
+            if (cached != null && cached.expiresAtMs() <= now) {
+                cache.remove(key);
+                cached = null;
+            }
+        }
+        if (cached != null) {
+            hitCount.increment();
+            return Optional.of(cached.claims());
+        }
+
+        missCount.increment();
+        Optional<TokenClaims> verified = verifier.apply(token);
+        verified.ifPresent(claims -> put(key, claims, now));
+        return verified;
+    }
+
+    public void clear() {
+        synchronized (cache) {
+            cache.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    private void put(String key, TokenClaims claims, long now) {
+        long expiresAtMs = Math.min(claims.expiration().getTime(), now + ttlMs);
+        if (expiresAtMs <= now) {
+            return;
+        }
+        synchronized (cache) {
+            cache.put(key, new CachedClaims(claims, expiresAtMs));
+        }
+    }
+
+    private String digest(String token) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            byte[] hash = sha256.digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record CachedClaims(TokenClaims claims, long expiresAtMs) {
+    }
+}
@@ -0,0 +1,52 @@
+package com.mobile.server.domain.auth.refresh;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@ConditionalOnProperty(name = "app.auth.refresh.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryRefreshTokenRepository implements RefreshTokenRepository {
+
+    private final Map<String, RefreshToken> tokens = new ConcurrentHashMap<>();
+
+    @Override
+    public void save(RefreshToken token) {
+        tokens.put(token.getFamilyId(), token);
+    }
+
+    @Override
+    public Optional<RefreshToken> findByFamilyId(String familyId) {
+        return Optional.ofNullable(tokens.get(familyId));
+    }
+
+    @Override
+    public boolean rotate(String familyId, String expectedRotateId, String nextRotateId,
+                          LocalDateTime nextExpiresAt) {
+        AtomicBoolean rotated = new AtomicBoolean(false);
+        tokens.computeIfPresent(familyId, (id, token) -> {
+            if (token.isCurrent(expectedRotateId)) {
+                token.rotate(nextRotateId, nextExpiresAt);
+                rotated.set(true);
+            }
+            return token;
+        });
+        return rotated.get();
+    }
+
+    @Override
+    public void revoke(String familyId) {
+        tokens.remove(familyId);
+    }
+
+    @Override
+    public int deleteExpired(LocalDateTime now) {
+        int before = tokens.size();
+        tokens.values().removeIf(token -> token.isExpired(now));
+        return before - tokens.size();
+    }
+}
@@ -0,0 +1,9 @@
+package com.mobile.server.domain.auth.refresh;
+
+import com.mobile.server.domain.auth.entity.User;
+
+public record IssuedTokens(
+        User user,
+        String accessToken,
+        String refreshToken) {
+}
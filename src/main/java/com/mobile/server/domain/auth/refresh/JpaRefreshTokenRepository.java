@@ -0,0 +1,47 @@
+package com.mobile.server.domain.auth.refresh;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.auth.refresh.store", havingValue = "jpa")
+public class JpaRefreshTokenRepository implements RefreshTokenRepository {
+
+    private final RefreshTokenJpaRepository refreshTokenJpaRepository;
+
+    @Override
+    @Transactional
+    public void save(RefreshToken token) {
+        refreshTokenJpaRepository.save(token);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<RefreshToken> findByFamilyId(String familyId) {
+        return refreshTokenJpaRepository.findById(familyId);
+    }
+
+    @Override
+    @Transactional
+    public boolean rotate(String familyId, String expectedRotateId, String nextRotateId,
+                          LocalDateTime nextExpiresAt) {
+        return refreshTokenJpaRepository.rotate(familyId, expectedRotateId, nextRotateId, nextExpiresAt) == 1;
+    }
+
+    @Override
+    @Transactional
+    public void revoke(String familyId) {
+        refreshTokenJpaRepository.deleteById(familyId);
+    }
+
+    @Override
+    @Transactional
+    public int deleteExpired(LocalDateTime now) {
+        return refreshTokenJpaRepository.deleteExpired(now);
+    }
+}
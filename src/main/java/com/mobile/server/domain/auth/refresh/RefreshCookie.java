@@ -1,4 +1,41 @@
 package com.mobile.server.domain.auth.refresh;
 
+import com.mobile.server.domain.auth.jwt.JWTUtil;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseCookie;
+import org.springframework.stereotype.Component;
+
+//RefreshToken 전달용 HttpOnly 쿠키
+@Component
 public class RefreshCookie {
+
+    public static final String NAME = "refresh_token";
+    private static final String PATH = "/api/auth";
+
+    private final Duration maxAge;
+    private final boolean secure;
+
+    public RefreshCookie(JWTUtil jwtUtil, @Value("${app.auth.refresh.secure-cookie:true}") boolean secure) {
+        this.maxAge = jwtUtil.getRefreshTtl();
+        this.secure = secure;
+    }
+
+    public ResponseCookie create(String refreshToken) {
+        return build(refreshToken, maxAge);
+    }
+
+    public ResponseCookie expire() {
+        return build("", Duration.ZERO);
+    }
+
+    private ResponseCookie build(String value, Duration age) {
+        return ResponseCookie.from(NAME, value)
+                .httpOnly(true)
+                .secure(secure)
+                .sameSite("Strict")
+                .path(PATH)
+                .maxAge(age)
+                .build();
+    }
 }
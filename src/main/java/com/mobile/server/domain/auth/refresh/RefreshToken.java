@@ -1,4 +1,65 @@
 package com.mobile.server.domain.auth.refresh;
 
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/*
+로그인 세션 1개 = RefreshToken family 1개
+- rotateId: 현재 유효한 RefreshToken 의 jti, 회전할 때마다 교체
+- 이전 rotateId 로 요청이 오면 재사용(탈취)으로 보고 family 전체를 폐기
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "refresh_token", indexes = {
+        @Index(name = "idx_refresh_token_expires_at", columnList = "expiresAt")
+})
 public class RefreshToken {
+
+    @Id
+    @Column(length = 36)
+    private String familyId;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Column(nullable = false, length = 36)
+    private String rotateId;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    public static RefreshToken issue(Long userId, LocalDateTime expiresAt) {
+        RefreshToken token = new RefreshToken();
+        token.familyId = UUID.randomUUID().toString();
+        token.userId = userId;
+        token.rotateId = newRotateId();
+        token.expiresAt = expiresAt;
+        return token;
+    }
+
+    public static String newRotateId() {
+        return UUID.randomUUID().toString();
+    }
+
+    public boolean isCurrent(String rotateId) {
+        return this.rotateId.equals(rotateId);
+    }
+
+    public boolean isExpired(LocalDateTime now) {
+        return !expiresAt.isAfter(now);
+    }
+
+    void rotate(String nextRotateId, LocalDateTime nextExpiresAt) {
+        this.rotateId = nextRotateId;
+        this.expiresAt = nextExpiresAt;
+    }
 }
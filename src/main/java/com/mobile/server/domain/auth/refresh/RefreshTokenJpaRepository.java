@@ -0,0 +1,25 @@
+package com.mobile.server.domain.auth.refresh;
+
+import java.time.LocalDateTime;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface RefreshTokenJpaRepository extends JpaRepository<RefreshToken, String> {
+
+    @Modifying
+    @Query("""
+                UPDATE RefreshToken t
+                SET t.rotateId = :nextRotateId, t.expiresAt = :nextExpiresAt
+                WHERE t.familyId = :familyId AND t.rotateId = :expectedRotateId
+            """)
+    int rotate(@Param("familyId") String familyId,
+               @Param("expectedRotateId") String expectedRotateId,
+               @Param("nextRotateId") String nextRotateId,
+               @Param("nextExpiresAt") LocalDateTime nextExpiresAt);
+
+    @Modifying
+    @Query("DELETE FROM RefreshToken t WHERE t.expiresAt <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -1,4 +1,23 @@
 package com.mobile.server.domain.auth.refresh;
 
-public class RefreshTokenRepository {
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/*
+RefreshToken 저장소
+- 기본: InMemoryRefreshTokenRepository (app.auth.refresh.store=memory)
+- 선택: JpaRefreshTokenRepository (app.auth.refresh.store=jpa, 다중 인스턴스 배포 시)
+ */
+public interface RefreshTokenRepository {
+
+    void save(RefreshToken token);
+
+    Optional<RefreshToken> findByFamilyId(String familyId);
+
+    //expectedRotateId 가 현재 값일 때만 교체 (compare-and-set)
+    boolean rotate(String familyId, String expectedRotateId, String nextRotateId, LocalDateTime nextExpiresAt);
+
+    void revoke(String familyId);
+
+    int deleteExpired(LocalDateTime now);
 }
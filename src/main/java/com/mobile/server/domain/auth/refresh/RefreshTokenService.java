@@ -1,4 +1,100 @@
 package com.mobile.server.domain.auth.refresh;
 
+import com.mobile.server.domain.auth.entity.User;
+import com.mobile.server.domain.auth.jwt.JWTService;
+import com.mobile.server.domain.auth.jwt.JWTUtil;
+import com.mobile.server.domain.auth.jwt.RefreshTokenClaims;
+import com.mobile.server.domain.auth.repository.UserRepository;
+import com.mobile.server.util.exception.BusinessErrorCode;
+import com.mobile.server.util.exception.BusinessException;
+import io.jsonwebtoken.JwtException;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
 public class RefreshTokenService {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final UserRepository userRepository;
+    private final JWTUtil jwtUtil;
+    private final JWTService jwtService;
+
+    //로그인 시 새 세션(family) 생성 후 RefreshToken 발급
+    public String issue(User user) {
+        RefreshToken token = RefreshToken.issue(user.getId(), nextExpiresAt());
+        refreshTokenRepository.save(token);
+        return jwtUtil.createRefreshToken(user.getId(), token.getFamilyId(), token.getRotateId());
+    }
+
+    //RefreshToken 회전 -> 새 AccessToken + RefreshToken 발급
+    public IssuedTokens rotate(String refreshToken) {
+        RefreshTokenClaims claims = parse(refreshToken);
+        RefreshToken stored = refreshTokenRepository.findByFamilyId(claims.familyId())
+                .filter(token -> token.getUserId().equals(claims.userId()))
+                .filter(token -> !token.isExpired(LocalDateTime.now()))
+                .orElseThrow(() -> new BusinessException(BusinessErrorCode.INVALID_REFRESH_TOKEN));
+
+        String nextRotateId = RefreshToken.newRotateId();
+        if (!stored.isCurrent(claims.rotateId())
+                || !refreshTokenRepository.rotate(stored.getFamilyId(), claims.rotateId(), nextRotateId,
+                nextExpiresAt())) {
+            log.warn("RefreshToken 재사용 감지 - 세션 폐기: userId = {}, familyId = {}",
+                    claims.userId(), claims.familyId());
+            refreshTokenRepository.revoke(stored.getFamilyId());
+            throw new BusinessException(BusinessErrorCode.INVALID_REFRESH_TOKEN);
+        }
+
+        User user = userRepository.findById(claims.userId()).orElseThrow(() -> {
+            refreshTokenRepository.revoke(stored.getFamilyId());
+            return new BusinessException(BusinessErrorCode.USER_NOT_FOUND);
+        });
+        return new IssuedTokens(user,
+                jwtService.generateAccessToken(user),
+                jwtUtil.createRefreshToken(user.getId(), stored.getFamilyId(), nextRotateId));
+    }
+
+    //로그아웃 시 세션 폐기 (이미 만료/위조된 토큰이면 무시)
+    public void revoke(String refreshToken) {
+        try {
+            RefreshTokenClaims claims = jwtUtil.parseRefreshClaims(refreshToken);
+            refreshTokenRepository.findByFamilyId(claims.familyId())
+                    .filter(token -> token.getUserId().equals(claims.userId()))
+                    .ifPresent(token -> refreshTokenRepository.revoke(token.getFamilyId()));
+        } catch (JwtException | IllegalArgumentException e) {
+            log.debug("폐기할 수 없는 RefreshToken: {}", e.getMessage());
+        }
+    }
+
+    //만료된 세션 정리 (1시간 주기)
+    @Scheduled(fixedDelayString = "${app.auth.refresh.sweep-interval:PT1H}")
+    public void sweepExpired() {
+        int deleted = refreshTokenRepository.deleteExpired(LocalDateTime.now());
+        if (deleted > 0) {
+            log.info("[스케줄러] 만료된 RefreshToken {}건 정리", deleted);
+        }
+    }
+
+    private RefreshTokenClaims parse(String refreshToken) {
+        if (refreshToken == null || refreshToken.isBlank()) {
+            throw new BusinessException(BusinessErrorCode.INVALID_REFRESH_TOKEN);
+        }
+        try {
+            RefreshTokenClaims claims = jwtUtil.parseRefreshClaims(refreshToken);
+            if (claims.userId() == null || claims.familyId() == null || claims.rotateId() == null) {
+                throw new BusinessException(BusinessErrorCode.INVALID_REFRESH_TOKEN);
+            }
+            return claims;
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new BusinessException(BusinessErrorCode.INVALID_REFRESH_TOKEN, e);
+        }
+    }
+
+    private LocalDateTime nextExpiresAt() {
+        return LocalDateTime.now().plus(jwtUtil.getRefreshTtl());
+    }
 }
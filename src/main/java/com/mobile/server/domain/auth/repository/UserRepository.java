@@ -1,9 +1,14 @@
 package com.mobile.server.domain.auth.repository;
 
+import com.mobile.server.domain.auth.entity.RoleType;
 import com.mobile.server.domain.auth.entity.User;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
@@ -12,4 +17,23 @@ public interface UserRepository extends JpaRepository<User, Long> {
     boolean existsByStudentId(String studentId);
 
     boolean existsByNickname(String nickname);
+
+    @Query("SELECT u.role FROM User u WHERE u.id = :userId")
+    Optional<RoleType> findRoleById(@Param("userId") Long userId);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE User u SET u.password = :password WHERE u.id = :userId")
+    void updatePassword(@Param("userId") Long userId, @Param("password") String password);
+
+    //참여한 미션의 포인트를 참여자에게 원자적으로 적립 (User/Mission 엔티티 조회 없이 UPDATE 1회)
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            UPDATE User u
+            SET u.cumulativePoint = u.cumulativePoint
+                + (SELECT pm.mission.missionPoint FROM MissionParticipation pm WHERE pm.id = :participationId)
+            WHERE u.id = (SELECT pu.user.id FROM MissionParticipation pu WHERE pu.id = :participationId)
+            """)
+    int grantMissionPoint(@Param("participationId") Long participationId);
 }
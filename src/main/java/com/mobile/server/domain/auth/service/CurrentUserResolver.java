@@ -0,0 +1,81 @@
+package com.mobile.server.domain.auth.service;
+
+import com.mobile.server.domain.auth.cache.UserRoleCache;
+import com.mobile.server.domain.auth.entity.RoleType;
+import com.mobile.server.domain.auth.entity.User;
+import com.mobile.server.domain.auth.jwt.CustomUserDetails;
+import com.mobile.server.domain.auth.repository.UserRepository;
+import com.mobile.server.util.exception.BusinessErrorCode;
+import com.mobile.server.util.exception.BusinessException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/*
+인증 사용자 정보 (singleton, 요청 스레드가 아니어도 사용 가능)
+- 권한 검사는 JWT(principal) 의 role 로 처리 -> users 조회 없음
+- principal 이 없는 스레드(스케줄러/작업 스레드)는 전달받은 userId 의 권한을 UserRoleCache 에서 조회
+- User 엔티티는 HTTP 요청이 있으면 요청 내에서 최대 1번만 참조 (FK 용 프록시, 필드 접근 시에만 로딩)
+ */
+@Component
+@RequiredArgsConstructor
+public class CurrentUserResolver {
+
+    private static final String USER_ATTRIBUTE = CurrentUserResolver.class.getName() + ".user";
+
+    private final UserRepository userRepository;
+    private final UserRoleCache userRoleCache;
+
+    //요청한 사용자의 권한 확인
+    public void requireRole(Long userId, RoleType role) {
+        if (resolveRole(userId) != role) {
+            throw new BusinessException(BusinessErrorCode.URL_FORBIDDEN);
+        }
+    }
+
+    //요청한 사용자 엔티티 (HTTP 요청이 있으면 요청 내 재사용)
+    public User getUser(Long userId) {
+        CustomUserDetails principal = findPrincipal();
+        if (principal != null) {
+            validateSameUser(principal, userId);
+        }
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return userRepository.getReferenceById(userId);
+        }
+        if (attributes.getAttribute(USER_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) instanceof User user
+                && user.getId().equals(userId)) {
+            return user;
+        }
+        User user = userRepository.getReferenceById(userId);
+        attributes.setAttribute(USER_ATTRIBUTE, user, RequestAttributes.SCOPE_REQUEST);
+        return user;
+    }
+
+    private RoleType resolveRole(Long userId) {
+        CustomUserDetails principal = findPrincipal();
+        if (principal == null) {
+            return userRoleCache.findRole(userId)
+                    .orElseThrow(() -> new BusinessException(BusinessErrorCode.USER_NOT_FOUND));
+        }
+        validateSameUser(principal, userId);
+        return principal.getRole();
+    }
+
+    private CustomUserDetails findPrincipal() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof CustomUserDetails principal) {
+            return principal;
+        }
+        return null;
+    }
+
+    private void validateSameUser(CustomUserDetails principal, Long userId) {
+        if (!principal.getUserId().equals(userId)) {
+            throw new BusinessException(BusinessErrorCode.URL_FORBIDDEN);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.mobile.server.domain.auth.service;
+
+import com.mobile.server.util.exception.BusinessErrorCode;
+import com.mobile.server.util.exception.BusinessException;
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+/*
+비밀번호 검증을 BCrypt 전용 스레드풀에서 수행하고, cost 가 바뀐 해시는 재암호화
+- 풀은 BCrypt 의 CPU 사용량을 제한하는 용도이며 요청 스레드는 결과를 기다리는 동안 대기함 (비동기 응답 아님)
+  -> 대기하는 요청 스레드 수는 pool-size + queue-capacity 이하, 그 이상은 즉시 503 / 최대 대기 시간은 login.timeout
+  -> 가상 스레드(spring.threads.virtual.enabled) 사용 시 대기 비용은 캐리어 스레드를 점유하지 않음
+- 조회/재암호화 저장/토큰 발급이 요청 스레드의 컨텍스트에서 이어져야 하므로 컨트롤러를 비동기로 바꾸지 않음
+ */
+@Component
+@Slf4j
+public class PasswordVerifier {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolTaskExecutor passwordHashExecutor;
+    private final int strength;
+    private final Duration timeout;
+
+    public PasswordVerifier(PasswordEncoder passwordEncoder,
+                            @Qualifier("passwordHashExecutor") ThreadPoolTaskExecutor passwordHashExecutor,
+                            @Value("${app.auth.bcrypt.strength:10}") int strength,
+                            @Value("${app.auth.login.timeout:5s}") Duration timeout) {
+        this.passwordEncoder = passwordEncoder;
+        this.passwordHashExecutor = passwordHashExecutor;
+        this.strength = strength;
+        this.timeout = timeout;
+    }
+
+    public record Result(boolean matched, String upgradedHash) {
+    }
+
+    //비밀번호 일치 여부 + (cost 변경 시) 새 해시, 요청 스레드는 최대 timeout 동안 대기
+    public Result verify(String rawPassword, String encodedPassword) {
+        Future<Result> future;
+        try {
+            future = passwordHashExecutor.submit(() -> match(rawPassword, encodedPassword));
+        } catch (TaskRejectedException | RejectedExecutionException e) {
+            log.warn("로그인 대기열 초과 - 요청 거절");
+            throw new BusinessException(BusinessErrorCode.LOGIN_OVERLOADED, e);
+        }
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new BusinessException(BusinessErrorCode.LOGIN_OVERLOADED, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(BusinessErrorCode.INTERNAL_SERVER_ERROR, e);
+        } catch (ExecutionException e) {
+            throw new BusinessException(BusinessErrorCode.INTERNAL_SERVER_ERROR, e.getCause());
+        }
+    }
+
+    private Result match(String rawPassword, String encodedPassword) {
+        if (!passwordEncoder.matches(rawPassword, encodedPassword)) {
+            return new Result(false, null);
+        }
+        if (costOf(encodedPassword) == strength) {
+            return new Result(true, null);
+        }
+        return new Result(true, passwordEncoder.encode(rawPassword));
+    }
+
+    //"$2a$10$..." 형식에서 cost 추출 (형식이 다르면 재암호화 대상)
+    private int costOf(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.length() < 7 || encodedPassword.charAt(3) != '$') {
+            return -1;
+        }
+        try {
+            return Integer.parseInt(encodedPassword.substring(4, 6));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.mobile.server.domain.auth.service;
 
+import com.mobile.server.domain.auth.cache.UserRoleCache;
 import com.mobile.server.domain.auth.dto.ProfileResponseDto;
 import com.mobile.server.domain.auth.dto.SignUpReq;
 import com.mobile.server.domain.auth.entity.RoleType;
@@ -18,6 +19,8 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final UserRoleCache userRoleCache;
+    private final PasswordVerifier passwordVerifier;
 
     //회원가입
     @Transactional
@@ -39,6 +42,7 @@ public class UserService {
                 .build();
 
         userRepository.save(user);
+        userRoleCache.put(user.getId(), user.getRole());
     }
 
     //학번 중복 체크
@@ -58,13 +62,17 @@ public class UserService {
     }
 
     //로그인 사용자 검증
-    @Transactional(readOnly = true)
+    //BCrypt 연산 동안 DB 커넥션을 잡지 않도록 트랜잭션 없이 수행
     public User verify(String studentId, String rawPassword) {
         User user = userRepository.findByStudentId(studentId)
                 .orElseThrow(() -> new BusinessException(BusinessErrorCode.INVALID_CREDENTIALS));
-        if (!passwordEncoder.matches(rawPassword, user.getPassword())) {
+        PasswordVerifier.Result result = passwordVerifier.verify(rawPassword, user.getPassword());
+        if (!result.matched()) {
             throw new BusinessException(BusinessErrorCode.INVALID_CREDENTIALS);
         }
+        if (result.upgradedHash() != null) {
+            userRepository.updatePassword(user.getId(), result.upgradedHash());
+        }
         return user;
     }
 
@@ -65,6 +65,11 @@ public class DataInitializer implements ApplicationRunner {
             userRepository.save(admin);
         }
 
+        // 마이그레이션으로 DB 가 유지되므로 테스트 데이터는 최초 1회만 생성
+        if (userRepository.existsByStudentId(userId)) {
+            return;
+        }
+
         // 사용자 테스트 데이터 (고정)
         User testUser1 = User.builder().nickname("모바일 프로그래밍 테스트 계정")
                 .studentId(userId).password(passwordEncoder.encode(userPassword))
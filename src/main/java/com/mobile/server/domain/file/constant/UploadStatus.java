@@ -0,0 +1,8 @@
+package com.mobile.server.domain.file.constant;
+
+//S3 업로드 상태
+public enum UploadStatus {
+    PENDING,   //로컬 스풀에 저장됨, S3 업로드 대기
+    UPLOADED,  //S3 업로드 완료
+    FAILED     //스풀 파일 유실 등으로 업로드 불가
+}
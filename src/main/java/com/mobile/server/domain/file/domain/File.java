@@ -1,17 +1,22 @@
 package com.mobile.server.domain.file.domain;
 
 import com.mobile.server.domain.common.BaseCreatedEntity;
+import com.mobile.server.domain.file.constant.UploadStatus;
 import com.mobile.server.domain.file.dto.FileDetailDto;
 import com.mobile.server.domain.mission.domain.Mission;
 import com.mobile.server.domain.missionParticipation.domain.MissionParticipation;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -25,6 +30,11 @@ import org.hibernate.annotations.Check;
           (CASE WHEN mission_participation_id IS NOT NULL THEN 1 ELSE 0 END)
         ) <= 1
         """)
+@Table(indexes = {
+        @Index(name = "idx_file_participation_deleted", columnList = "mission_participation_id, isDeleted"),
+        @Index(name = "idx_file_upload_status", columnList = "uploadStatus"),
+        @Index(name = "idx_file_file_key", columnList = "fileKey")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
@@ -37,18 +47,34 @@ public class File extends BaseCreatedEntity {
     @Column(nullable = false, length = 255)
     private String fileName;
 
-    @Column(nullable = false, unique = true, length = 512)
+    //S3 object key - 참여 사진은 내용 해시 기반이라 같은 사진을 참조하는 File 끼리 공유 (참조 수 = 같은 key 의 File 수)
+    @Column(nullable = false, length = 512)
     private String fileKey;
 
     @Column(nullable = false, length = 100)
     private String fileType;
 
+    //업로드된 원본 크기
     @Column(nullable = false)
     private Long fileSize;
 
+    //실제 저장된 크기 (정규화 시 재인코딩 결과 크기, S3 업로드 전이면 null)
+    private Long storedFileSize;
+
     @Column(nullable = false)
     private Boolean isDeleted = false;
 
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private UploadStatus uploadStatus = UploadStatus.UPLOADED;
+
+    //목록 미리보기용 썸네일 key (생성 전이거나 생성할 수 없는 형식이면 null -> 원본 사용)
+    @Column(length = 512)
+    private String thumbnailKey;
+
+    //유사 사진 탐지용 지각 해시 (업로드 전이거나 읽을 수 없는 형식이면 null)
+    private Long perceptualHash;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "mission_id")
     private Mission mission;
@@ -89,6 +115,26 @@ public class File extends BaseCreatedEntity {
     }
 
 
+    //로컬 스풀에만 저장된 상태로 생성 (S3 업로드는 커밋 이후 비동기 처리)
+    public static File ofPendingParticipation(MissionParticipation participation, FileDetailDto fileDetail) {
+        File f = ofParticipation(participation, fileDetail);
+        f.uploadStatus = UploadStatus.PENDING;
+        return f;
+    }
+
+
+    //같은 내용이 이미 S3 에 저장된 경우 - 업로드 없이 저장 결과(형식/크기/썸네일/지각 해시)를 그대로 참조
+    public static File ofStoredParticipation(MissionParticipation participation, FileDetailDto fileDetail,
+                                             File stored) {
+        File f = ofParticipation(participation, fileDetail);
+        f.fileType = stored.fileType;
+        f.storedFileSize = stored.storedFileSize;
+        f.thumbnailKey = stored.thumbnailKey;
+        f.perceptualHash = stored.perceptualHash;
+        return f;
+    }
+
+
     private static File base(FileDetailDto fileDetail) {
         File f = new File();
         f.fileName = fileDetail.getOriginalFileName();
@@ -15,5 +15,8 @@ public class FileDetailDto {
     private String contentType;
     private long fileSize;
 
+    public FileDetailDto withKey(String key) {
+        return new FileDetailDto(originalFileName, key, contentType, fileSize);
+    }
 
 }
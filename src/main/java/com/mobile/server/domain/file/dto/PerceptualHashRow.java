@@ -0,0 +1,8 @@
+package com.mobile.server.domain.file.dto;
+
+//유사 사진 인덱스 적재용 projection (File id 는 적재 커서로 사용)
+public record PerceptualHashRow(
+        Long fileId,
+        Long participationId,
+        Long perceptualHash) {
+}
@@ -1,32 +1,103 @@
 package com.mobile.server.domain.file.respository;
 
+import com.mobile.server.domain.file.constant.UploadStatus;
 import com.mobile.server.domain.file.domain.File;
-import com.mobile.server.domain.mission.dto.MissionParticipationFileDto;
+import com.mobile.server.domain.file.dto.PerceptualHashRow;
 import com.mobile.server.domain.missionParticipation.domain.MissionParticipation;
-import com.mobile.server.domain.missionParticipation.eum.MissionParticipationStatus;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public interface FileRepository extends JpaRepository<File, Long> {
 
+    Optional<File> findByParticipationAndIsDeletedFalse(MissionParticipation participation);
+
+    List<File> findAllByUploadStatus(UploadStatus uploadStatus);
+
+    boolean existsByFileKeyAndUploadStatus(String fileKey, UploadStatus uploadStatus);
+
+    Optional<File> findFirstByFileKeyAndUploadStatus(String fileKey, UploadStatus uploadStatus);
+
+    //저장 크기가 기록된 행 = 스풀 파일이 이미 정규화 단계를 거침 (재개 시 다시 정규화하지 않음)
+    Optional<File> findFirstByFileKeyAndUploadStatusAndStoredFileSizeIsNotNull(String fileKey,
+                                                                               UploadStatus uploadStatus);
+
+    //같은 사진(key)을 참조하는 참여 id - 유사 사진 인덱스에 추가할 대상
     @Query("""
-                  SELECT NEW com.mobile.server.domain.mission.dto.
-                  MissionParticipationFileDto(p.id,p.createdAt,p.user,f.fileKey)\s
-                  FROM File f
-                  JOIN f.participation p\s
-                  WHERE p.mission.id = :missionId AND
-                  p.participationStatus = :participationStatus AND f.isDeleted =false\s
-            \s""")
-    List<MissionParticipationFileDto> findAllByMission_IdAndMissionStatus(
-            @Param("participationStatus") MissionParticipationStatus participationStatus,
-            @Param("missionId") Long missionId
-    );
+            SELECT f.participation.id FROM File f
+            WHERE f.fileKey = :fileKey AND f.uploadStatus = :uploadStatus AND f.participation IS NOT NULL
+            """)
+    List<Long> findParticipationIdsByFileKeyAndUploadStatus(@Param("fileKey") String fileKey,
+                                                           @Param("uploadStatus") UploadStatus uploadStatus);
 
-    Optional<File> findByParticipationAndIsDeletedFalse(MissionParticipation participation);
+    //유사 사진 인덱스 적재 - 해시가 있는 참여 사진을 id 커서 기준으로 나눠 조회
+    @Query("""
+            SELECT NEW com.mobile.server.domain.file.dto.PerceptualHashRow(f.id, f.participation.id, f.perceptualHash)
+            FROM File f
+            WHERE f.id > :cursor AND f.perceptualHash IS NOT NULL
+              AND f.participation IS NOT NULL AND f.isDeleted = false
+            ORDER BY f.id
+            """)
+    List<PerceptualHashRow> findPerceptualHashRows(@Param("cursor") Long cursor, Limit limit);
+
+    //from 상태인 행만 전환 (같은 key 를 공유하는 이미 UPLOADED 된 다른 제출의 행은 건드리지 않음)
+    @Transactional
+    @Modifying
+    @Query("UPDATE File f SET f.uploadStatus = :to WHERE f.fileKey = :fileKey AND f.uploadStatus = :from")
+    int updateUploadStatus(@Param("fileKey") String fileKey, @Param("from") UploadStatus from,
+                           @Param("to") UploadStatus to);
+
+    //createdBefore 이전에 생성된 from 상태 행만 전환 (최근 제출은 다른 인스턴스의 스풀에서 업로드 중일 수 있음)
+    @Transactional
+    @Modifying
+    @Query("""
+            UPDATE File f SET f.uploadStatus = :to
+            WHERE f.fileKey = :fileKey AND f.uploadStatus = :from AND f.createdAt < :createdBefore
+            """)
+    int updateUploadStatusCreatedBefore(@Param("fileKey") String fileKey, @Param("from") UploadStatus from,
+                                        @Param("to") UploadStatus to,
+                                        @Param("createdBefore") LocalDateTime createdBefore);
+
+    //같은 내용이 이미 업로드된 경우 PENDING 행에 저장 결과(형식/크기/썸네일/지각 해시)를 복사하고 UPLOADED 로 전환
+    @Transactional
+    @Modifying
+    @Query("""
+            UPDATE File f
+            SET f.uploadStatus = :uploaded, f.fileType = :fileType, f.storedFileSize = :storedFileSize,
+                f.thumbnailKey = :thumbnailKey, f.perceptualHash = :perceptualHash
+            WHERE f.fileKey = :fileKey AND f.uploadStatus = :pending
+            """)
+    int adoptStoredFile(@Param("fileKey") String fileKey, @Param("pending") UploadStatus pending,
+                        @Param("uploaded") UploadStatus uploaded, @Param("fileType") String fileType,
+                        @Param("storedFileSize") Long storedFileSize, @Param("thumbnailKey") String thumbnailKey,
+                        @Param("perceptualHash") Long perceptualHash);
+
+    //아직 저장 결과가 기록되지 않은 행만 (정규화 이후 커밋된 같은 key 의 제출 포함)
+    @Transactional
+    @Modifying
+    @Query("""
+            UPDATE File f SET f.storedFileSize = :storedFileSize, f.fileType = :fileType
+            WHERE f.fileKey = :fileKey AND f.storedFileSize IS NULL
+            """)
+    int updateStoredFile(@Param("fileKey") String fileKey, @Param("storedFileSize") Long storedFileSize,
+                         @Param("fileType") String fileType);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE File f SET f.thumbnailKey = :thumbnailKey WHERE f.fileKey = :fileKey")
+    int updateThumbnailKey(@Param("fileKey") String fileKey, @Param("thumbnailKey") String thumbnailKey);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE File f SET f.perceptualHash = :perceptualHash WHERE f.fileKey = :fileKey")
+    int updatePerceptualHash(@Param("fileKey") String fileKey, @Param("perceptualHash") Long perceptualHash);
 
 }
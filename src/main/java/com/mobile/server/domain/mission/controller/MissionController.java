@@ -27,6 +27,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
@@ -289,7 +290,7 @@ public class MissionController {
 
     @Operation(
             summary = "승인 대기 미션 목록 조회",
-            description = "현재 사용자가 제출한 미션 중 승인 대기 중인(PENDING 상태) 미션 목록을 조회합니다. STUDENT 권한이 필요합니다."
+            description = "현재 사용자가 제출한 미션 중 승인 대기 중인(PENDING 상태) 미션 목록을 조회합니다. STUDENT 권한이 필요합니다. 최신순 커서 페이지네이션이며, 다음 페이지가 있으면 X-Next-Cursor 응답 헤더로 다음 커서를 반환합니다."
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "승인 대기 미션 목록 조회 성공",
@@ -350,14 +351,15 @@ public class MissionController {
     })
     @GetMapping("/pending")
     public ResponseEntity<List<PendingMissionDto>> getPendingMissions(
-            @AuthenticationPrincipal CustomUserDetails userDetails) {
-        List<PendingMissionDto> result = missionService.getPendingMissions(userDetails.getUserId());
-        return ResponseEntity.ok(result);
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @Parameter(description = "이전 페이지 응답의 X-Next-Cursor 값 (첫 페이지는 생략)") @RequestParam(required = false) Long cursor,
+            @Parameter(description = "페이지 크기 (기본 20, 최대 50)") @RequestParam(required = false) Integer size) {
+        return missionService.getPendingMissions(userDetails.getUserId(), cursor, size).toResponse();
     }
 
     @Operation(
             summary = "과거 미션 참여 이력 조회",
-            description = "유저가 참여한 모든 미션 목록을 조회합니다. 승인 대기(PENDING), 승인(APPROVED), 반려(REJECTED) 상태를 모두 포함하며, 최신순으로 정렬됩니다. STUDENT 권한이 필요합니다."
+            description = "유저가 참여한 모든 미션 목록을 조회합니다. 승인 대기(PENDING), 승인(APPROVED), 반려(REJECTED) 상태를 모두 포함하며, 최신순으로 정렬됩니다. STUDENT 권한이 필요합니다. 커서 페이지네이션이며, 다음 페이지가 있으면 X-Next-Cursor 응답 헤더로 다음 커서를 반환합니다."
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "과거 미션 참여 이력 조회 성공",
@@ -416,9 +418,10 @@ public class MissionController {
     })
     @GetMapping("/history")
     public ResponseEntity<List<ParticipationHistoryDto>> getParticipationHistory(
-            @AuthenticationPrincipal CustomUserDetails userDetails) {
-        List<ParticipationHistoryDto> result = missionService.getParticipationHistory(userDetails.getUserId());
-        return ResponseEntity.ok(result);
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @Parameter(description = "이전 페이지 응답의 X-Next-Cursor 값 (첫 페이지는 생략)") @RequestParam(required = false) Long cursor,
+            @Parameter(description = "페이지 크기 (기본 20, 최대 50)") @RequestParam(required = false) Integer size) {
+        return missionService.getParticipationHistory(userDetails.getUserId(), cursor, size).toResponse();
     }
 
     @Operation(
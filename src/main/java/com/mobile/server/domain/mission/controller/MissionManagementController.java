@@ -2,12 +2,17 @@ package com.mobile.server.domain.mission.controller;
 
 import com.mobile.server.domain.auth.jwt.CustomUserDetails;
 import com.mobile.server.domain.mission.dto.ApprovalRequestResponseDto;
+import com.mobile.server.domain.mission.dto.BulkReviewRequestDto;
+import com.mobile.server.domain.mission.dto.BulkReviewResponseDto;
 import com.mobile.server.domain.mission.dto.CategoryResponseDto;
 import com.mobile.server.domain.mission.dto.EventMissionCreationDto;
 import com.mobile.server.domain.mission.dto.MissionResponseDto;
+import com.mobile.server.domain.mission.dto.MissionSearchCondition;
+import com.mobile.server.domain.mission.dto.ParticipationPhotoDto;
 import com.mobile.server.domain.mission.dto.RegularMissionCreationDto;
 import com.mobile.server.domain.mission.service.MissionManagementService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -15,6 +20,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -26,6 +32,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -106,7 +113,7 @@ public class MissionManagementController {
 
     @Operation(
             summary = "종료 미션 조회",
-            description = "관리자가 완전히 마감된 미션(마감 && 승인 대기x, 승인 혹은 반려 중 하나) 을 모두 조회한다.",
+            description = "관리자가 완전히 마감된 미션(마감 && 승인 대기x, 승인 혹은 반려 중 하나) 을 최신순으로 조회한다. 다음 페이지가 있으면 X-Next-Cursor 응답 헤더로 다음 커서를 반환한다.",
             responses = {
                     @ApiResponse(responseCode = "200", description = "정상적으로 조회됨.",
                             content = @Content(mediaType = "application/json",
@@ -116,10 +123,10 @@ public class MissionManagementController {
     )
     @GetMapping(path = "/termination")
     public ResponseEntity<List<MissionResponseDto>> getTerminationMission(
-            @AuthenticationPrincipal CustomUserDetails userInformation) {
-        List<MissionResponseDto> result = managementService.getTerminationMission(
-                userInformation.getUserId());
-        return ResponseEntity.ok(result);
+            @AuthenticationPrincipal CustomUserDetails userInformation,
+            @Parameter(description = "이전 페이지 응답의 X-Next-Cursor 값 (첫 페이지는 생략)") @RequestParam(required = false) Long cursor,
+            @Parameter(description = "페이지 크기 (기본 20, 최대 50)") @RequestParam(required = false) Integer size) {
+        return managementService.getTerminationMission(userInformation.getUserId(), cursor, size).toResponse();
     }
 
     @Operation(
@@ -159,7 +166,7 @@ public class MissionManagementController {
 
     @Operation(
             summary = "미션 승인 요청 목록 조회",
-            description = "특정 미션의 승인 대기 중인 목록을 조회한다..",
+            description = "특정 미션의 승인 대기 중인 목록을 오래된 제출 순으로 조회한다. 다음 페이지가 있으면 X-Next-Cursor 응답 헤더로 다음 커서를 반환한다.",
             responses = {
                     @ApiResponse(responseCode = "200", description = "정상적으로 조회됨.",
                             content = @Content(mediaType = "application/json",
@@ -169,9 +176,28 @@ public class MissionManagementController {
     )
     @GetMapping(path = "/request/{missionId}")
     public ResponseEntity<ApprovalRequestResponseDto> getApprovalRequestList(
-            @AuthenticationPrincipal CustomUserDetails userInformation, @PathVariable String missionId) {
-        ApprovalRequestResponseDto result = managementService.getApprovalRequestList(userInformation.getUserId(),
-                missionId);
+            @AuthenticationPrincipal CustomUserDetails userInformation, @PathVariable String missionId,
+            @Parameter(description = "이전 페이지 응답의 X-Next-Cursor 값 (첫 페이지는 생략)") @RequestParam(required = false) Long cursor,
+            @Parameter(description = "페이지 크기 (기본 20, 최대 50)") @RequestParam(required = false) Integer size) {
+        return managementService.getApprovalRequestList(userInformation.getUserId(), missionId, cursor, size)
+                .toResponse();
+    }
+
+    @Operation(
+            summary = "미션 참여 사진 원본 조회",
+            description = "승인 요청 목록의 썸네일 대신 참여 사진 원본 URL 을 조회한다.(확대 보기용, 단건 요청)",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "정상적으로 조회됨.",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ParticipationPhotoDto.class))
+                    )
+            }
+    )
+    @GetMapping(path = "/request/{participationId}/photo")
+    public ResponseEntity<ParticipationPhotoDto> getParticipationPhoto(
+            @AuthenticationPrincipal CustomUserDetails userInformation, @PathVariable String participationId) {
+        ParticipationPhotoDto result = managementService.getParticipationPhoto(userInformation.getUserId(),
+                participationId);
         return ResponseEntity.ok(result);
     }
 
@@ -205,6 +231,37 @@ public class MissionManagementController {
     }
 
 
+    @Operation(
+            summary = "미션 참여 일괄 승인/반려 요청",
+            description = "참여 id 목록(최대 2000건) 또는 미션 id 의 승인 대기 참여 전체를 한 번에 승인/반려한다. 이미 처리되었거나 존재하지 않는 참여는 건별 결과로 반환한다.",
+            requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    required = true,
+                    description = "일괄 승인/반려 요청",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = BulkReviewRequestDto.class)
+                    )
+            ),
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "정상적으로 처리됨.",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = BulkReviewResponseDto.class))
+                    )
+            }
+    )
+    @PatchMapping(
+            path = "/request/bulk",
+            consumes = MediaType.APPLICATION_JSON_VALUE
+    )
+    public ResponseEntity<BulkReviewResponseDto> requestMissionParticipationBulkReview(
+            @AuthenticationPrincipal CustomUserDetails userInformation,
+            @RequestBody @Valid BulkReviewRequestDto request) {
+        BulkReviewResponseDto result = managementService.requestMissionParticipationBulkReview(
+                userInformation.getUserId(), request);
+        return ResponseEntity.ok(result);
+    }
+
+
     @Operation(
             summary = "미션 조기 마감 요청",
             description = "미션 조기 마감을 서버에 요청한다.(단건 요청)",
@@ -222,7 +279,7 @@ public class MissionManagementController {
 
     @Operation(
             summary = "전체 미션 조회",
-            description = "관리자가 생성된 전체 미션을 조회한다.",
+            description = "관리자가 생성된 전체 미션을 최신순으로 조회한다. 타입/상태/카테고리/시작일 범위로 필터링할 수 있으며, 커서 페이지네이션으로 다음 페이지가 있으면 X-Next-Cursor 응답 헤더로 다음 커서를 반환한다.",
             responses = {
                     @ApiResponse(responseCode = "200", description = "정상적으로 조회됨.",
                             content = @Content(mediaType = "application/json",
@@ -232,9 +289,9 @@ public class MissionManagementController {
     )
     @GetMapping()
     public ResponseEntity<List<MissionResponseDto>> getAllMission(
-            @AuthenticationPrincipal CustomUserDetails userInformation) {
-        List<MissionResponseDto> result = managementService.getAllMission(userInformation.getUserId());
-        return ResponseEntity.ok(result);
+            @AuthenticationPrincipal CustomUserDetails userInformation,
+            @ParameterObject @ModelAttribute MissionSearchCondition condition) {
+        return managementService.getAllMission(userInformation.getUserId(), condition).toResponse();
     }
 
 
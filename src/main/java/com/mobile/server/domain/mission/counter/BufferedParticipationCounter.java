@@ -0,0 +1,77 @@
+package com.mobile.server.domain.mission.counter;
+
+import com.mobile.server.domain.mission.repository.MissionRepository;
+import jakarta.annotation.PreDestroy;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/*
+참여자 수 증가분을 미션별 LongAdder 에 모았다가 주기적으로 한 번의 UPDATE 로 반영
+- 인기 미션에 제출이 몰려도 mission 행 잠금 경합이 flush 주기당 1회로 줄어듦
+- 증가분은 제출 커밋 이후에만 반영, 화면의 참여자 수는 최대 flush 주기만큼 늦게 보임
+- 단일 인스턴스 기준 (종료 시 남은 증가분 flush, 비정상 종료 시 마지막 주기분은 유실될 수 있음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.mission.participation-counter.mode", havingValue = "buffered")
+public class BufferedParticipationCounter implements ParticipationCounter {
+
+    private final MissionRepository missionRepository;
+    private final Map<Long, Pending> pending = new ConcurrentHashMap<>();
+
+    @Override
+    public void increment(Long missionId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            add(missionId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                add(missionId);
+            }
+        });
+    }
+
+    private void add(Long missionId) {
+        pending.computeIfAbsent(missionId, id -> new Pending()).added.increment();
+    }
+
+    //누적값(sum) - 반영값(flushed) 만 UPDATE, 반영 중 들어온 증가분은 다음 주기에 반영 (reset 없이 유실 방지)
+    @Scheduled(fixedDelayString = "${app.mission.participation-counter.flush-interval:PT1S}")
+    public synchronized void flush() {
+        pending.forEach((missionId, counter) -> {
+            long total = counter.added.sum();
+            long delta = total - counter.flushed;
+            if (delta == 0) {
+                return;
+            }
+            try {
+                missionRepository.incrementParticipationCount(missionId, Math.toIntExact(delta));
+                counter.flushed = total;
+            } catch (DataAccessException e) {
+                log.warn("참여자 수 반영 실패, 다음 주기에 재시도 missionId={}, delta={}", missionId, delta, e);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private static class Pending {
+        private final LongAdder added = new LongAdder();
+        private long flushed;
+    }
+}
@@ -0,0 +1,20 @@
+package com.mobile.server.domain.mission.counter;
+
+import com.mobile.server.domain.mission.repository.MissionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.mission.participation-counter.mode", havingValue = "direct", matchIfMissing = true)
+public class DirectParticipationCounter implements ParticipationCounter {
+
+    private final MissionRepository missionRepository;
+
+    //호출한 트랜잭션에 참여하므로 제출이 롤백되면 증가분도 함께 롤백
+    @Override
+    public void increment(Long missionId) {
+        missionRepository.incrementParticipationCount(missionId, 1);
+    }
+}
@@ -0,0 +1,11 @@
+package com.mobile.server.domain.mission.counter;
+
+/*
+미션 참여자 수 증가
+- 기본: DirectParticipationCounter (app.mission.participation-counter.mode=direct, 제출 트랜잭션에서 원자적 UPDATE)
+- 선택: BufferedParticipationCounter (app.mission.participation-counter.mode=buffered, 메모리에 모아 주기적으로 반영)
+ */
+public interface ParticipationCounter {
+
+    void increment(Long missionId);
+}
@@ -12,6 +12,8 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
 import java.time.LocalDate;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -24,6 +26,12 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @Getter
+@Table(indexes = {
+        @Index(name = "idx_mission_status_id", columnList = "status, id"),
+        @Index(name = "idx_mission_status_dead_line", columnList = "status, deadLine"),
+        @Index(name = "idx_mission_status_start_date", columnList = "status, startDate"),
+        @Index(name = "idx_mission_type_status", columnList = "missionType, status")
+})
 public class Mission extends BaseCreatedEntity {
 
     @Id
@@ -66,10 +74,6 @@ public class Mission extends BaseCreatedEntity {
     @Builder.Default
     private Integer participationCount = 0;
 
-    public void incrementParticipationCount() {
-        this.participationCount += 1;
-    }
-
     public void closeMission() {
         status = MissionStatus.CLOSED;
     }
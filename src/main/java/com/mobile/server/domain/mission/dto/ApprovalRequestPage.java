@@ -0,0 +1,12 @@
+package com.mobile.server.domain.mission.dto;
+
+import com.mobile.server.util.pagination.CursorPage;
+import org.springframework.http.ResponseEntity;
+
+//승인 요청 목록 한 페이지 - 본문은 기존 응답 형태 유지, 다음 커서는 X-Next-Cursor 헤더로 전달
+public record ApprovalRequestPage(ApprovalRequestResponseDto response, Long nextCursor) {
+
+    public ResponseEntity<ApprovalRequestResponseDto> toResponse() {
+        return CursorPage.toResponse(response, nextCursor);
+    }
+}
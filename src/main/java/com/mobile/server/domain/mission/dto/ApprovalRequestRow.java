@@ -0,0 +1,25 @@
+package com.mobile.server.domain.mission.dto;
+
+import com.mobile.server.domain.file.constant.UploadStatus;
+import java.time.LocalDateTime;
+
+//승인 요청 목록 조회용 projection (User 엔티티 대신 닉네임만 조회, 유사 사진 검사용 지각 해시 포함)
+public record ApprovalRequestRow(
+        Long participationId,
+        LocalDateTime createdAt,
+        String nickname,
+        String fileKey,
+        String thumbnailKey,
+        Long perceptualHash,
+        UploadStatus uploadStatus) {
+
+    //S3 업로드가 끝나지 않았으면 null (다른 인스턴스가 업로드 중이거나 실패해 객체가 없음)
+    public String photoKey() {
+        return uploadStatus == UploadStatus.UPLOADED ? fileKey : null;
+    }
+
+    //썸네일이 아직 없으면 원본 key
+    public String previewKey() {
+        return thumbnailKey != null ? thumbnailKey : photoKey();
+    }
+}
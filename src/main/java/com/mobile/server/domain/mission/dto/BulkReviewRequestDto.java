@@ -0,0 +1,34 @@
+package com.mobile.server.domain.mission.dto;
+
+import com.mobile.server.domain.missionParticipation.eum.ReviewAction;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "미션 참여 일괄 승인/반려 요청 DTO (participationIds 와 missionId 중 하나만 지정)")
+@Setter
+public class BulkReviewRequestDto {
+
+    //한 요청에서 처리하는 최대 건수 (미션 전체 처리도 오래된 제출부터 이 건수까지만 처리)
+    public static final int MAX_SIZE = 2000;
+
+    @Schema(description = "처리 방식(필수) - APPROVE / REJECT")
+    @NotNull
+    private ReviewAction action;
+
+    @Schema(description = "처리할 참여 id 목록 (최대 2000건)")
+    @Size(max = MAX_SIZE)
+    private List<@NotNull Long> participationIds;
+
+    @Schema(description = "지정 시 해당 미션의 승인 대기 참여를 오래된 제출부터 최대 2000건 처리 (남은 건이 있으면 응답의 hasMore = true)")
+    private Long missionId;
+
+}
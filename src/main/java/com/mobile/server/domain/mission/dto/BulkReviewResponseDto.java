@@ -0,0 +1,25 @@
+package com.mobile.server.domain.mission.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+
+@Schema(description = "미션 참여 일괄 승인/반려 응답 DTO")
+@Builder
+@Getter
+public class BulkReviewResponseDto {
+
+    @Schema(description = "요청된 참여 건수")
+    int requestedCount;
+
+    @Schema(description = "실제로 상태가 변경된 참여 건수")
+    int processedCount;
+
+    @Schema(description = "참여 건별 처리 결과 (요청 순서)")
+    List<BulkReviewResultDto> results;
+
+    @Schema(description = "미션 id 로 요청한 경우 처리하지 못한 승인 대기 참여가 남아 있으면 true (같은 요청을 다시 보내 이어서 처리)")
+    boolean hasMore;
+
+}
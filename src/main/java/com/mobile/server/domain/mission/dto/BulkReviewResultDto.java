@@ -0,0 +1,10 @@
+package com.mobile.server.domain.mission.dto;
+
+import com.mobile.server.domain.missionParticipation.eum.ReviewResult;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "참여 건별 일괄 처리 결과")
+public record BulkReviewResultDto(
+        @Schema(description = "참여 id") Long participationId,
+        @Schema(description = "처리 결과 - APPROVED / REJECTED / ALREADY_PROCESSED / NOT_FOUND") ReviewResult result) {
+}
@@ -51,5 +51,9 @@ public class MissionResponseDto {
     @PastOrPresent
     LocalDateTime createdAt;
 
+    @Schema(description = "승인 대기 중인 참여 수 (관리자 승인대기/마감 미션 조회인 경우에만 해당 필드 존재)")
+    @PositiveOrZero
+    Long pendingCount;
+
 
 }
@@ -0,0 +1,42 @@
+package com.mobile.server.domain.mission.dto;
+
+import com.mobile.server.domain.mission.e.MissionStatus;
+import com.mobile.server.domain.mission.e.MissionType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.format.annotation.DateTimeFormat;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "관리자 전체 미션 조회 조건 (모든 항목 선택)")
+public class MissionSearchCondition {
+
+    @Schema(description = "미션 타입", example = "EVENT")
+    private MissionType type;
+
+    @Schema(description = "미션 상태", example = "OPEN")
+    private MissionStatus status;
+
+    @Schema(description = "카테고리", example = "TUMBLER")
+    private String category;
+
+    @Schema(description = "시작일 범위 - 이후 (포함)", example = "2025-11-01")
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate from;
+
+    @Schema(description = "시작일 범위 - 이전 (포함)", example = "2025-11-30")
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate to;
+
+    @Schema(description = "이전 페이지 응답의 X-Next-Cursor 값 (첫 페이지는 생략)")
+    private Long cursor;
+
+    @Schema(description = "페이지 크기 (기본 20, 최대 50)", example = "20")
+    private Integer size;
+}
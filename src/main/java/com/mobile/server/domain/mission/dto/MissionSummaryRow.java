@@ -0,0 +1,18 @@
+package com.mobile.server.domain.mission.dto;
+
+import com.mobile.server.domain.mission.e.MissionType;
+import java.time.LocalDateTime;
+
+//관리자 미션 목록 조회용 projection (미션당 1행 + 특정 참여 상태 건수)
+public record MissionSummaryRow(
+        Long missionId,
+        String title,
+        Long missionPoint,
+        String category,
+        String iconUrl,
+        String bannerUrl,
+        MissionType missionType,
+        Integer participationCount,
+        LocalDateTime createdAt,
+        Long pendingCount) {
+}
@@ -0,0 +1,20 @@
+package com.mobile.server.domain.mission.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.Builder;
+import lombok.Getter;
+
+@Schema(description = "승인 요청 사진 원본 조회 DTO (확대 보기용)")
+@Builder
+@Getter
+public class ParticipationPhotoDto {
+
+    @Schema(description = "미션 참여 id")
+    @NotNull
+    Long participationId;
+
+    @Schema(description = "미션 참여 사진 원본 URL (S3 업로드가 끝나기 전이면 null)")
+    String participationPhoto;
+
+}
@@ -0,0 +1,11 @@
+package com.mobile.server.domain.mission.dto;
+
+import com.mobile.server.domain.missionParticipation.eum.MissionParticipationStatus;
+
+//일괄 승인/반려 대상 projection (잠금 조회 시점의 상태 + 포인트 적립에 필요한 id)
+public record ParticipationReviewRow(
+        Long participationId,
+        MissionParticipationStatus status,
+        Long userId,
+        Long missionId) {
+}
@@ -38,7 +38,7 @@ public class PendingMissionDto {
     @Schema(description = "참여 상태 (PENDING: 승인대기, APPROVED: 승인됨, REJECTED: 거부됨)", example = "PENDING")
     private MissionParticipationStatus participationStatus;
 
-    @Schema(description = "제출한 사진 URL", example = "https://mobile-reple.s3.ap-northeast-2.amazonaws.com/participations/abc123.jpg")
+    @Schema(description = "제출한 사진의 썸네일 URL (썸네일 생성 전이면 원본 URL, S3 업로드가 끝나기 전이면 null, 원본은 참여 이력 상세 조회에서 제공)", example = "https://mobile-reple.s3.ap-northeast-2.amazonaws.com/participations/abc123.jpg")
     private String submittedPhotoUrl;
 
     @Schema(description = "제출 일시", example = "2025-11-19T14:30:00")
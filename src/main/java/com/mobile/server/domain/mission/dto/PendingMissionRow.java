@@ -0,0 +1,30 @@
+package com.mobile.server.domain.mission.dto;
+
+import com.mobile.server.domain.file.constant.UploadStatus;
+import com.mobile.server.domain.mission.e.MissionType;
+import com.mobile.server.domain.missionParticipation.eum.MissionParticipationStatus;
+import java.time.LocalDateTime;
+
+//승인 대기 목록 조회용 projection (참여 + 미션 + 제출 사진/썸네일 key 를 한 번에 조회)
+public record PendingMissionRow(
+        Long participationId,
+        LocalDateTime submittedAt,
+        MissionParticipationStatus participationStatus,
+        Long missionId,
+        String title,
+        Long missionPoint,
+        String category,
+        String iconUrl,
+        MissionType missionType,
+        String fileKey,
+        String thumbnailKey,
+        UploadStatus uploadStatus) {
+
+    //썸네일이 아직 없으면 원본 key, 제출 사진이 없거나 S3 업로드가 끝나지 않았으면 null
+    public String previewKey() {
+        if (uploadStatus != UploadStatus.UPLOADED) {
+            return null;
+        }
+        return thumbnailKey != null ? thumbnailKey : fileKey;
+    }
+}
@@ -1,10 +1,10 @@
 package com.mobile.server.domain.mission.dto;
 
 import io.swagger.v3.oas.annotations.media.Schema;
-import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.PastOrPresent;
 import java.time.LocalDateTime;
+import java.util.List;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -21,13 +21,16 @@ public class RequesterDto {
     @NotNull
     String nickName;
 
-    @Schema(description = "미션 참여 사진 URL")
-    @NotBlank
-    String participationPhoto;
+    @Schema(description = "미션 참여 사진 썸네일 URL (목록 미리보기용, 썸네일 생성 전이면 원본 URL, S3 업로드가 끝나기 전이면 null, 원본은 사진 조회 API 로 요청)")
+    String participationThumbnail;
 
     @Schema(description = "미션 참여 시간 및 날짜")
     @PastOrPresent
     LocalDateTime missionParticipationTime;
 
+    @Schema(description = "유사한 사진으로 제출된 다른 미션 참여 id 목록 (재사용/도용 의심, 없으면 빈 목록)")
+    @NotNull
+    List<Long> similarParticipationIds;
+
 
 }
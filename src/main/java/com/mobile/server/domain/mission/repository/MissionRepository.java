@@ -1,43 +1,62 @@
 package com.mobile.server.domain.mission.repository;
 
 import com.mobile.server.domain.mission.domain.Mission;
+import com.mobile.server.domain.mission.dto.MissionSummaryRow;
 import com.mobile.server.domain.missionParticipation.eum.MissionParticipationStatus;
 import java.time.LocalDate;
 import java.util.List;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public interface MissionRepository extends JpaRepository<Mission, Long> {
 
+    //참여 상태가 하나라도 있는 미션을 미션당 1행으로 조회 (해당 상태 참여 건수 포함)
     @Query("""
-                SELECT m
-                FROM MissionParticipation p
-                JOIN p.mission m
+                SELECT NEW com.mobile.server.domain.mission.dto.MissionSummaryRow(
+                    m.id, m.title, m.missionPoint, m.category, m.iconUrl, m.bannerUrl, m.missionType,
+                    m.participationCount, m.createdAt,
+                    (SELECT COUNT(c) FROM MissionParticipation c
+                     WHERE c.mission = m AND c.participationStatus = :missionParticipationStatus))
+                FROM Mission m
                 WHERE m.status = :missionStatus
-                  AND p.participationStatus = :missionParticipationStatus
+                  AND EXISTS (SELECT 1 FROM MissionParticipation p
+                              WHERE p.mission = m AND p.participationStatus = :missionParticipationStatus)
+                ORDER BY m.id DESC
             """)
-    List<Mission> findAllByMissionStatusAndMissionParticipationStatus(
+    List<MissionSummaryRow> findSummariesByMissionStatusAndParticipationStatus(
             @Param("missionStatus") com.mobile.server.domain.mission.e.MissionStatus missionStatus,
             @Param("missionParticipationStatus") MissionParticipationStatus status);
 
 
+    //해당 참여 상태가 하나도 없는 미션 조회 - (status, id) / (mission_id, participationStatus) 인덱스로 미션당 1회 탐색
     @Query("""
-                 SELECT m
-                 FROM MissionParticipation p
-                 RIGHT JOIN p.mission m
-                 WHERE m.status = :missionStatus
-                 GROUP BY m
-                 HAVING COUNT(CASE WHEN p.participationStatus = :missionParticipationStatus THEN 1 END) = 0\s
-                        OR COUNT(p) = 0
-            \s""")
-    List<Mission> findAllByMissionStatusAndMissionParticipationStatusNot(
+                SELECT m
+                FROM Mission m
+                WHERE m.status = :missionStatus
+                  AND (:cursor IS NULL OR m.id < :cursor)
+                  AND NOT EXISTS (SELECT 1 FROM MissionParticipation p
+                                  WHERE p.mission = m AND p.participationStatus = :missionParticipationStatus)
+                ORDER BY m.id DESC
+            """)
+    List<Mission> findAllByMissionStatusWithoutParticipationStatus(
             @Param("missionStatus") com.mobile.server.domain.mission.e.MissionStatus missionStatus,
-            @Param("missionParticipationStatus") MissionParticipationStatus status);
+            @Param("missionParticipationStatus") MissionParticipationStatus status,
+            @Param("cursor") Long cursor,
+            Limit limit);
 
 
+    //엔티티를 읽지 않고 DB 에서 원자적으로 증가 (동시 제출 시 갱신 유실 방지)
+    @Transactional
+    @Modifying
+    @Query("UPDATE Mission m SET m.participationCount = m.participationCount + :delta WHERE m.id = :missionId")
+    int incrementParticipationCount(@Param("missionId") Long missionId, @Param("delta") int delta);
+
     List<Mission> findAllByStatusAndDeadLineLessThanEqual(
             com.mobile.server.domain.mission.e.MissionStatus missionStatus,
             LocalDate deadLine);
@@ -50,4 +69,25 @@ public interface MissionRepository extends JpaRepository<Mission, Long> {
             com.mobile.server.domain.mission.e.MissionType missionType,
             com.mobile.server.domain.mission.e.MissionStatus status);
 
+    //관리자 전체 미션 조회 - 조건이 null 이면 해당 필터 미적용, id 커서 기준 최신순
+    @Query("""
+                SELECT m
+                FROM Mission m
+                WHERE (:cursor IS NULL OR m.id < :cursor)
+                  AND (:type IS NULL OR m.missionType = :type)
+                  AND (:status IS NULL OR m.status = :status)
+                  AND (:category IS NULL OR m.category = :category)
+                  AND (:from IS NULL OR m.startDate >= :from)
+                  AND (:to IS NULL OR m.startDate <= :to)
+                ORDER BY m.id DESC
+            """)
+    List<Mission> searchMissions(
+            @Param("type") com.mobile.server.domain.mission.e.MissionType type,
+            @Param("status") com.mobile.server.domain.mission.e.MissionStatus status,
+            @Param("category") String category,
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to,
+            @Param("cursor") Long cursor,
+            Limit limit);
+
 }
@@ -1,18 +1,27 @@
 package com.mobile.server.domain.mission.service;
 
 import com.mobile.server.domain.auth.entity.RoleType;
-import com.mobile.server.domain.auth.entity.User;
 import com.mobile.server.domain.auth.jwt.CustomUserDetails;
 import com.mobile.server.domain.auth.repository.UserRepository;
+import com.mobile.server.domain.auth.service.CurrentUserResolver;
+import com.mobile.server.domain.file.constant.UploadStatus;
 import com.mobile.server.domain.file.domain.File;
 import com.mobile.server.domain.file.respository.FileRepository;
 import com.mobile.server.domain.mission.constant.MissionCategory;
 import com.mobile.server.domain.mission.domain.Mission;
+import com.mobile.server.domain.mission.dto.ApprovalRequestPage;
 import com.mobile.server.domain.mission.dto.ApprovalRequestResponseDto;
+import com.mobile.server.domain.mission.dto.ApprovalRequestRow;
+import com.mobile.server.domain.mission.dto.BulkReviewRequestDto;
+import com.mobile.server.domain.mission.dto.BulkReviewResponseDto;
+import com.mobile.server.domain.mission.dto.BulkReviewResultDto;
 import com.mobile.server.domain.mission.dto.CategoryResponseDto;
 import com.mobile.server.domain.mission.dto.EventMissionCreationDto;
-import com.mobile.server.domain.mission.dto.MissionParticipationFileDto;
 import com.mobile.server.domain.mission.dto.MissionResponseDto;
+import com.mobile.server.domain.mission.dto.MissionSearchCondition;
+import com.mobile.server.domain.mission.dto.MissionSummaryRow;
+import com.mobile.server.domain.mission.dto.ParticipationPhotoDto;
+import com.mobile.server.domain.mission.dto.ParticipationReviewRow;
 import com.mobile.server.domain.mission.dto.RegularMissionCreationDto;
 import com.mobile.server.domain.mission.dto.RequesterDto;
 import com.mobile.server.domain.mission.e.MissionStatus;
@@ -20,20 +29,27 @@ import com.mobile.server.domain.mission.e.MissionType;
 import com.mobile.server.domain.mission.repository.MissionRepository;
 import com.mobile.server.domain.missionParticipation.domain.MissionParticipation;
 import com.mobile.server.domain.missionParticipation.eum.MissionParticipationStatus;
+import com.mobile.server.domain.missionParticipation.eum.ReviewAction;
+import com.mobile.server.domain.missionParticipation.eum.ReviewResult;
 import com.mobile.server.domain.missionParticipation.repository.MissionParticipationRepository;
+import com.mobile.server.domain.missionParticipation.repository.ParticipationReviewJdbcRepository;
 import com.mobile.server.domain.regularMission.RegularMissionRepository;
 import com.mobile.server.domain.regularMission.domain.RegularMission;
 import com.mobile.server.util.exception.BusinessErrorCode;
 import com.mobile.server.util.exception.BusinessException;
 import com.mobile.server.util.file.FileResourceMap;
+import com.mobile.server.util.file.PerceptualHashIndex;
+import com.mobile.server.util.file.PresignedUrlBatchSigner;
 import com.mobile.server.util.file.S3Uploader;
+import com.mobile.server.util.pagination.CursorPage;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
-import org.jetbrains.annotations.NotNull;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -42,12 +58,19 @@ import org.springframework.web.multipart.MultipartFile;
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class MissionManagementService {
-    private final UserRepository userRepository;
+    //일괄 처리 시 IN 절 / JDBC batch 한 번에 담는 참여 건수
+    private static final int REVIEW_CHUNK_SIZE = 500;
+
+    private final CurrentUserResolver currentUserResolver;
     private final FileRepository fileRepository;
     private final RegularMissionRepository regularMissionRepository;
     private final S3Uploader s3Uploader;
     private final MissionRepository missionRepository;
     private final MissionParticipationRepository missionParticipationRepository;
+    private final UserRepository userRepository;
+    private final ParticipationReviewJdbcRepository participationReviewJdbcRepository;
+    private final PresignedUrlBatchSigner presignedUrlBatchSigner;
+    private final PerceptualHashIndex perceptualHashIndex;
 
 
     @Transactional
@@ -72,29 +95,27 @@ public class MissionManagementService {
 
     public List<MissionResponseDto> getDeadlineMission(Long userId) {
         isAdmin(userId);
-        List<Mission> deadlineMission = makeDeadLineMission();
-        Set<Mission> uniqueDeadLineMission = new HashSet<>(deadlineMission);
-        return makeUniqueMissionResponseList(uniqueDeadLineMission);
+        return makeDeadLineMission().stream().map(this::makeMissionResponse).toList();
     }
 
-    public List<MissionResponseDto> getTerminationMission(Long userId) {
+    public CursorPage<MissionResponseDto> getTerminationMission(Long userId, Long cursor, Integer size) {
         isAdmin(userId);
-        List<Mission> terminationMission = makeTerminationMission();
-        Set<Mission> uniqueTerminationMission = new HashSet<>(terminationMission);
-        return makeUniqueMissionResponseList(uniqueTerminationMission);
+        int pageSize = CursorPage.resolveSize(size);
+        List<Mission> terminationMission = makeTerminationMission(cursor, pageSize);
+        return CursorPage.of(terminationMission, pageSize, Mission::getId).map(this::makeMissionResponse);
     }
 
     public List<MissionResponseDto> getPendingMission(Long userId) {
         isAdmin(userId);
-        List<Mission> pendingMission = makePendingMission();
-        Set<Mission> uniquePendingMission = new HashSet<>(pendingMission);
-        return makeUniqueMissionResponseList(uniquePendingMission);
+        return makePendingMission().stream().map(this::makeMissionResponse).toList();
     }
 
-    public List<MissionResponseDto> getAllMission(Long userId) {
+    public CursorPage<MissionResponseDto> getAllMission(Long userId, MissionSearchCondition condition) {
         isAdmin(userId);
-        List<Mission> allMission = makeAllMission();
-        return makeUniqueMissionResponseList(new HashSet<>(allMission));
+        validateSearchDate(condition.getFrom(), condition.getTo());
+        int pageSize = CursorPage.resolveSize(condition.getSize());
+        List<Mission> missions = searchMission(condition, pageSize);
+        return CursorPage.of(missions, pageSize, Mission::getId).map(this::makeMissionResponse);
     }
 
 
@@ -127,27 +148,67 @@ public class MissionManagementService {
                 .toList();
     }
 
-    public ApprovalRequestResponseDto getApprovalRequestList(Long userId, String missionId) {
+    public ApprovalRequestPage getApprovalRequestList(Long userId, String missionId, Long cursor, Integer size) {
         isAdmin(userId);
         Mission mission = findMissionById(missionId);
-        List<MissionParticipationFileDto> missionParticipationWithFile = fetchParticipationFiles(mission);
-        List<RequesterDto> requesterList = mapToRequesterDtos(missionParticipationWithFile);
-        return buildApprovalRequestResponse(mission, requesterList);
+        int pageSize = CursorPage.resolveSize(size);
+        CursorPage<ApprovalRequestRow> page = CursorPage.of(fetchApprovalRequestRows(mission, cursor, pageSize),
+                pageSize, ApprovalRequestRow::participationId);
+        List<RequesterDto> requesterList = mapToRequesterDtos(page.items());
+        return new ApprovalRequestPage(buildApprovalRequestResponse(mission, requesterList), page.nextCursor());
+    }
+
+    public ParticipationPhotoDto getParticipationPhoto(Long userId, String participationId) {
+        isAdmin(userId);
+        MissionParticipation participation = findParticipationById(participationId);
+        String photoUrl = fileRepository.findByParticipationAndIsDeletedFalse(participation)
+                .filter(file -> file.getUploadStatus() == UploadStatus.UPLOADED)
+                .map(file -> s3Uploader.getUrlFile(file.getFileKey()))
+                .orElse(null);
+        return ParticipationPhotoDto.builder().participationId(participation.getId())
+                .participationPhoto(photoUrl).build();
     }
 
     @Transactional
     public void requestMissionParticipationApprove(Long userId, String participationId) {
         isAdmin(userId);
-        MissionParticipation participation = findParticipationById(participationId);
-        participation.approveParticipation(participation.getUser(),
-                participation.getMission().getMissionPoint());
+        Long id = Long.parseLong(participationId);
+        //PENDING -> APPROVED 로 바뀐 경우에만 포인트 적립 (중복/동시 승인 요청은 재적립 없이 무시)
+        if (missionParticipationRepository.updateStatusIfCurrent(id, MissionParticipationStatus.PENDING,
+                MissionParticipationStatus.APPROVED) == 0) {
+            validateParticipationExists(id);
+            return;
+        }
+        userRepository.grantMissionPoint(id);
     }
 
     @Transactional
     public void requestMissionParticipationReject(Long userId, String participationId) {
         isAdmin(userId);
-        MissionParticipation participation = findParticipationById(participationId);
-        participation.rejectParticipation();
+        Long id = Long.parseLong(participationId);
+        //PENDING 인 경우에만 반려 (이미 승인/반려된 참여는 덮어쓰지 않음)
+        if (missionParticipationRepository.updateStatusIfCurrent(id, MissionParticipationStatus.PENDING,
+                MissionParticipationStatus.REJECTED) == 0) {
+            validateParticipationExists(id);
+        }
+    }
+
+    @Transactional
+    public BulkReviewResponseDto requestMissionParticipationBulkReview(Long userId, BulkReviewRequestDto request) {
+        isAdmin(userId);
+        List<Long> participationIds = resolveReviewTargets(request);
+        //미션 전체 처리는 MAX_SIZE + 1 건을 조회해 남은 건 여부만 확인
+        boolean hasMore = participationIds.size() > BulkReviewRequestDto.MAX_SIZE;
+        if (hasMore) {
+            participationIds = participationIds.subList(0, BulkReviewRequestDto.MAX_SIZE);
+        }
+        List<BulkReviewResultDto> results = new ArrayList<>(participationIds.size());
+        for (int from = 0; from < participationIds.size(); from += REVIEW_CHUNK_SIZE) {
+            List<Long> chunk = participationIds.subList(from,
+                    Math.min(from + REVIEW_CHUNK_SIZE, participationIds.size()));
+            results.addAll(reviewChunk(chunk, request.getAction()));
+        }
+        return buildBulkReviewResponse(results, request.getAction(), hasMore);
     }
 
     @Transactional
@@ -158,8 +219,17 @@ public class MissionManagementService {
         mission.closeMission();
     }
 
-    private List<Mission> makeAllMission() {
-        return missionRepository.findAll();
+    //필터/커서를 쿼리로 내려 한 페이지(size + 1)만 조회
+    private List<Mission> searchMission(MissionSearchCondition condition, int pageSize) {
+        return missionRepository.searchMissions(condition.getType(), condition.getStatus(),
+                condition.getCategory(), condition.getFrom(), condition.getTo(), condition.getCursor(),
+                Limit.of(pageSize + 1));
+    }
+
+    private void validateSearchDate(LocalDate from, LocalDate to) {
+        if (from != null && to != null) {
+            validateInputDate(from, to);
+        }
     }
 
 
@@ -169,6 +239,64 @@ public class MissionManagementService {
         }
     }
 
+    //participationIds / missionId 중 정확히 하나만 허용, 중복 id 는 요청 순서를 유지하며 제거
+    private List<Long> resolveReviewTargets(BulkReviewRequestDto request) {
+        boolean hasIds = request.getParticipationIds() != null && !request.getParticipationIds().isEmpty();
+        if (hasIds == (request.getMissionId() != null)) {
+            throw new BusinessException(BusinessErrorCode.INVALID_PARAMETER);
+        }
+        if (hasIds) {
+            return new ArrayList<>(new LinkedHashSet<>(request.getParticipationIds()));
+        }
+        if (!missionRepository.existsById(request.getMissionId())) {
+            throw new BusinessException(BusinessErrorCode.MISSION_NOT_FOUND);
+        }
+        return participationReviewJdbcRepository.findIdsByMissionIdAndStatus(request.getMissionId(),
+                MissionParticipationStatus.PENDING, BulkReviewRequestDto.MAX_SIZE + 1);
+    }
+
+    //청크 단위: 잠금 조회 1회 -> PENDING 건 집합 UPDATE 1회 -> (승인 시) 포인트 적립 batch 1회
+    private List<BulkReviewResultDto> reviewChunk(List<Long> chunk, ReviewAction action) {
+        Map<Long, ParticipationReviewRow> rows = participationReviewJdbcRepository.lockForReview(chunk);
+        List<ParticipationReviewRow> pendingRows = rows.values().stream()
+                .filter(row -> row.status() == MissionParticipationStatus.PENDING)
+                .toList();
+        if (!pendingRows.isEmpty()) {
+            participationReviewJdbcRepository.updateStatus(
+                    pendingRows.stream().map(ParticipationReviewRow::participationId).toList(),
+                    MissionParticipationStatus.PENDING, action.getTargetStatus());
+            if (action == ReviewAction.APPROVE) {
+                participationReviewJdbcRepository.grantMissionPoints(pendingRows);
+            }
+        }
+        return chunk.stream().map(id -> new BulkReviewResultDto(id, toReviewResult(rows.get(id), action))).toList();
+    }
+
+    private ReviewResult toReviewResult(ParticipationReviewRow row, ReviewAction action) {
+        if (row == null) {
+            return ReviewResult.NOT_FOUND;
+        }
+        if (row.status() != MissionParticipationStatus.PENDING) {
+            return ReviewResult.ALREADY_PROCESSED;
+        }
+        return action.getResult();
+    }
+
+    private BulkReviewResponseDto buildBulkReviewResponse(List<BulkReviewResultDto> results, ReviewAction action,
+                                                          boolean hasMore) {
+        int processedCount = (int) results.stream().filter(result -> result.result() == action.getResult()).count();
+        return BulkReviewResponseDto.builder().requestedCount(results.size())
+                .processedCount(processedCount)
+                .results(results)
+                .hasMore(hasMore).build();
+    }
+
+    private void validateParticipationExists(Long participationId) {
+        if (!missionParticipationRepository.existsById(participationId)) {
+            throw new BusinessException(BusinessErrorCode.PARTICIPATION_NOT_FOUND);
+        }
+    }
+
     private MissionParticipation findParticipationById(String participationId) {
         return missionParticipationRepository.findById(
                 Long.parseLong(participationId)).orElseThrow(() -> new BusinessException(
@@ -190,20 +318,35 @@ public class MissionManagementService {
         return result;
     }
 
-    @NotNull
-    private List<RequesterDto> mapToRequesterDtos(
-            List<MissionParticipationFileDto> missionParticipationWithFile) {
-        return missionParticipationWithFile.stream().map(data ->
-                RequesterDto.builder().participationId(data.participationId())
-                        .nickName(data.user().getNickname())
-                        .missionParticipationTime(data.createdAt())
-                        .participationPhoto(s3Uploader.getUrlFile(data.fileKey()))
-                        .build()).toList();
+    //페이지 분량의 원본/썸네일 URL 을 병렬 서명 후 요청자 DTO 로 변환
+    //목록에는 미리보기 URL 만 서명 (원본은 getParticipationPhoto 로 필요할 때 1건씩)
+    private List<RequesterDto> mapToRequesterDtos(List<ApprovalRequestRow> rows) {
+        List<String> thumbnailUrls = presignedUrlBatchSigner.signAll(
+                rows.stream().map(ApprovalRequestRow::previewKey).toList());
+        List<RequesterDto> requesterList = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            ApprovalRequestRow row = rows.get(i);
+            requesterList.add(RequesterDto.builder().participationId(row.participationId())
+                    .nickName(row.nickname())
+                    .missionParticipationTime(row.createdAt())
+                    .participationThumbnail(thumbnailUrls.get(i))
+                    .similarParticipationIds(findSimilarParticipations(row))
+                    .build());
+        }
+        return requesterList;
     }
 
-    private List<MissionParticipationFileDto> fetchParticipationFiles(Mission mission) {
-        return fileRepository.findAllByMission_IdAndMissionStatus(
-                MissionParticipationStatus.PENDING, mission.getId());
+    //해시가 없는 사진(업로드 전, 읽을 수 없는 형식)은 검사하지 않음
+    private List<Long> findSimilarParticipations(ApprovalRequestRow row) {
+        if (row.perceptualHash() == null) {
+            return List.of();
+        }
+        return perceptualHashIndex.findSimilar(row.perceptualHash(), row.participationId());
+    }
+
+    private List<ApprovalRequestRow> fetchApprovalRequestRows(Mission mission, Long cursor, int pageSize) {
+        return missionParticipationRepository.findApprovalRequestRows(mission.getId(),
+                MissionParticipationStatus.PENDING, cursor, Limit.of(pageSize + 1));
     }
 
     private Mission findMissionById(String missionId) {
@@ -211,33 +354,44 @@ public class MissionManagementService {
                 new BusinessException(BusinessErrorCode.MISSION_NOT_FOUND));
     }
 
-    private List<Mission> makePendingMission() {
-        return missionRepository.findAllByMissionStatusAndMissionParticipationStatus(
+    private List<MissionSummaryRow> makePendingMission() {
+        return missionRepository.findSummariesByMissionStatusAndParticipationStatus(
                 MissionStatus.OPEN, MissionParticipationStatus.PENDING);
     }
 
-    private List<Mission> makeTerminationMission() {
-        return missionRepository.findAllByMissionStatusAndMissionParticipationStatusNot(
+    private List<Mission> makeTerminationMission(Long cursor, int pageSize) {
+        return missionRepository.findAllByMissionStatusWithoutParticipationStatus(
                 MissionStatus.CLOSED,
-                MissionParticipationStatus.PENDING
+                MissionParticipationStatus.PENDING,
+                cursor,
+                Limit.of(pageSize + 1)
         );
     }
 
-    private List<Mission> makeDeadLineMission() {
-        return missionRepository.findAllByMissionStatusAndMissionParticipationStatus(
+    private List<MissionSummaryRow> makeDeadLineMission() {
+        return missionRepository.findSummariesByMissionStatusAndParticipationStatus(
                 MissionStatus.CLOSED,
                 MissionParticipationStatus.PENDING);
     }
 
-    @NotNull
-    private List<MissionResponseDto> makeUniqueMissionResponseList(Set<Mission> uniqueMission) {
-        return uniqueMission.stream().map(m -> {
-            MissionResponseDto result = m.makeMissionResponseDto();
-            if (m.getMissionType().equals(MissionType.EVENT)) {
-                result.setParticipationCount(m.getParticipationCount());
-            }
-            return result;
-        }).toList();
+    private MissionResponseDto makeMissionResponse(MissionSummaryRow row) {
+        MissionResponseDto result = MissionResponseDto.builder().missionId(row.missionId())
+                .title(row.title()).missionPoint(row.missionPoint())
+                .category(row.category()).iconImageUrl(row.iconUrl())
+                .bannerImageUrl(row.bannerUrl()).createdAt(row.createdAt())
+                .pendingCount(row.pendingCount()).build();
+        if (row.missionType().equals(MissionType.EVENT)) {
+            result.setParticipationCount(row.participationCount());
+        }
+        return result;
+    }
+
+    private MissionResponseDto makeMissionResponse(Mission mission) {
+        MissionResponseDto result = mission.makeMissionResponseDto();
+        if (mission.getMissionType().equals(MissionType.EVENT)) {
+            result.setParticipationCount(mission.getParticipationCount());
+        }
+        return result;
     }
 
 
@@ -294,18 +448,10 @@ public class MissionManagementService {
     }
 
     private void isAdmin(Long userId) {
-        User user = userRepository.findById(userId).orElseThrow(() ->
-                new BusinessException(BusinessErrorCode.USER_NOT_FOUND));
-        if (!user.getRole().equals(RoleType.ADMIN)) {
-            throw new BusinessException(BusinessErrorCode.URL_FORBIDDEN);
-        }
+        currentUserResolver.requireRole(userId, RoleType.ADMIN);
     }
 
     private void isStudent(CustomUserDetails userDetails) {
-        User user = userRepository.findById(userDetails.getUserId()).orElseThrow(() ->
-                new BusinessException(BusinessErrorCode.USER_NOT_FOUND));
-        if (!user.getRole().equals(RoleType.STUDENT)) {
-            throw new BusinessException(BusinessErrorCode.URL_FORBIDDEN);
-        }
+        currentUserResolver.requireRole(userDetails.getUserId(), RoleType.STUDENT);
     }
 }
@@ -2,15 +2,19 @@ package com.mobile.server.domain.mission.service;
 
 import com.mobile.server.domain.auth.entity.RoleType;
 import com.mobile.server.domain.auth.entity.User;
-import com.mobile.server.domain.auth.repository.UserRepository;
+import com.mobile.server.domain.auth.service.CurrentUserResolver;
+import com.mobile.server.domain.file.constant.UploadStatus;
 import com.mobile.server.domain.file.domain.File;
+import com.mobile.server.domain.file.dto.FileDetailDto;
 import com.mobile.server.domain.file.respository.FileRepository;
+import com.mobile.server.domain.mission.counter.ParticipationCounter;
 import com.mobile.server.domain.mission.domain.Mission;
 import com.mobile.server.domain.mission.dto.MissionDetailDto;
 import com.mobile.server.domain.mission.dto.MissionSubmitResponseDto;
 import com.mobile.server.domain.mission.dto.ParticipationHistoryDetailDto;
 import com.mobile.server.domain.mission.dto.ParticipationHistoryDto;
 import com.mobile.server.domain.mission.dto.PendingMissionDto;
+import com.mobile.server.domain.mission.dto.PendingMissionRow;
 import com.mobile.server.domain.mission.e.MissionStatus;
 import com.mobile.server.domain.mission.e.MissionType;
 import com.mobile.server.domain.mission.repository.MissionRepository;
@@ -19,12 +23,20 @@ import com.mobile.server.domain.missionParticipation.eum.MissionParticipationSta
 import com.mobile.server.domain.missionParticipation.repository.MissionParticipationRepository;
 import com.mobile.server.util.exception.BusinessErrorCode;
 import com.mobile.server.util.exception.BusinessException;
+import com.mobile.server.util.file.PerceptualHashIndex;
+import com.mobile.server.util.file.S3UploadDispatcher;
 import com.mobile.server.util.file.S3Uploader;
+import com.mobile.server.util.file.UploadSpool;
+import com.mobile.server.util.file.UploadSpool.HashedSpoolFile;
+import com.mobile.server.util.pagination.CursorPage;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
-import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -34,15 +46,19 @@ import org.springframework.web.multipart.MultipartFile;
 @RequiredArgsConstructor
 public class MissionService {
 
-    private final UserRepository userRepository;
+    private final CurrentUserResolver currentUserResolver;
     private final MissionRepository missionRepository;
     private final MissionParticipationRepository missionParticipationRepository;
     private final FileRepository fileRepository;
     private final S3Uploader s3Uploader;
+    private final UploadSpool uploadSpool;
+    private final S3UploadDispatcher uploadDispatcher;
+    private final PerceptualHashIndex perceptualHashIndex;
+    private final ParticipationCounter participationCounter;
 
     public MissionDetailDto getMissionDetail(Long userId, Long missionId) {
+        validateStudent(userId);
         User user = findUserById(userId);
-        validateStudent(user);
 
         Mission mission = findMissionById(missionId);
 
@@ -55,24 +71,23 @@ public class MissionService {
 
     @Transactional
     public MissionSubmitResponseDto submitMission(Long userId, Long missionId, MultipartFile photo) {
+        validateStudent(userId);
         User user = findUserById(userId);
-        validateStudent(user);
 
         Mission mission = findMissionById(missionId);
 
         validateMissionStatus(mission);
         validateDeadline(mission);
-        validateDuplicateSubmission(mission, user);
 
         MissionParticipation participation = MissionParticipation.builder()
                 .mission(mission)
                 .user(user)
                 .participationStatus(MissionParticipationStatus.PENDING)
                 .build();
-        MissionParticipation savedParticipation = missionParticipationRepository.save(participation);
+        MissionParticipation savedParticipation = saveParticipation(participation);
 
         saveParticipationFile(savedParticipation, photo);
-        mission.incrementParticipationCount();
+        participationCounter.increment(mission.getId());
 
         return MissionSubmitResponseDto.builder()
                 .participationId(savedParticipation.getId())
@@ -105,8 +120,7 @@ public class MissionService {
     }
 
     private User findUserById(Long userId) {
-        return userRepository.findById(userId)
-                .orElseThrow(() -> new BusinessException(BusinessErrorCode.USER_NOT_FOUND));
+        return currentUserResolver.getUser(userId);
     }
 
     private Mission findMissionById(Long missionId) {
@@ -114,10 +128,8 @@ public class MissionService {
                 .orElseThrow(() -> new BusinessException(BusinessErrorCode.MISSION_NOT_FOUND));
     }
 
-    private void validateStudent(User user) {
-        if (!user.getRole().equals(RoleType.STUDENT)) {
-            throw new BusinessException(BusinessErrorCode.URL_FORBIDDEN);
-        }
+    private void validateStudent(Long userId) {
+        currentUserResolver.requireRole(userId, RoleType.STUDENT);
     }
 
     private void validateMissionStatus(Mission mission) {
@@ -132,88 +144,102 @@ public class MissionService {
         }
     }
 
-    private void validateDuplicateSubmission(Mission mission, User user) {
-        Optional<MissionParticipation> existing =
-                missionParticipationRepository.findByMissionAndUser(mission, user);
-        if (existing.isPresent()) {
-            throw new BusinessException(BusinessErrorCode.DUPLICATE_MISSION_SUBMISSION);
+    //중복 제출은 선조회 없이 (mission_id, user_id) 유니크 제약으로 판단 (동시 요청도 1건만 저장)
+    private MissionParticipation saveParticipation(MissionParticipation participation) {
+        try {
+            return missionParticipationRepository.save(participation);
+        } catch (DataIntegrityViolationException e) {
+            if (isDuplicateSubmission(e)) {
+                throw new BusinessException(BusinessErrorCode.DUPLICATE_MISSION_SUBMISSION);
+            }
+            throw e;
+        }
+    }
+
+    //다른 제약(FK, NOT NULL 등) 위반은 중복 제출로 바꾸지 않음 - DB 마다 제약 이름 앞뒤 표기가 달라 포함 여부로 비교
+    private boolean isDuplicateSubmission(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation) {
+                String constraintName = violation.getConstraintName();
+                return constraintName != null && constraintName.toLowerCase(Locale.ROOT)
+                        .contains(MissionParticipation.UK_MISSION_USER);
+            }
         }
+        return false;
     }
 
     private void saveParticipationFile(MissionParticipation participation, MultipartFile file) {
         if (file != null && !file.isEmpty()) {
-            File newFile = File.ofParticipation(participation, s3Uploader.makeMetaData(file));
+            FileDetailDto metaData = s3Uploader.makeMetaData(file);
+            //스풀에 쓰면서 SHA-256 계산 -> 내용 기반 key
+            HashedSpoolFile spooled = uploadSpool.writeHashed(file);
+            FileDetailDto contentMetaData = metaData.withKey(S3Uploader.contentKeyOf(spooled.sha256()));
+
+            //같은 사진이 이미 S3 에 있으면 업로드 없이 기존 object 참조 (지각 해시도 재사용해 유사 사진 인덱스에 추가)
+            Optional<File> stored = fileRepository.findFirstByFileKeyAndUploadStatus(contentMetaData.getKey(),
+                    UploadStatus.UPLOADED);
+            if (stored.isPresent()) {
+                uploadSpool.discard(spooled);
+                File newFile = fileRepository.save(File.ofStoredParticipation(participation, contentMetaData,
+                        stored.get()));
+                if (newFile.getPerceptualHash() != null) {
+                    perceptualHashIndex.addAfterCommit(participation.getId(), newFile.getPerceptualHash());
+                }
+                return;
+            }
+
+            //요청 스레드에서는 로컬 스풀에 저장만 하고, S3 업로드는 커밋 이후 비동기로 처리
+            File newFile = File.ofPendingParticipation(participation, contentMetaData);
+            uploadSpool.commit(spooled, newFile.getFileKey());
+            uploadDispatcher.dispatchAfterCommit(newFile.getFileKey(), newFile.getFileType());
             fileRepository.save(newFile);
-            s3Uploader.uploadFile(newFile.getFileKey(), file);
         }
     }
 
-    public List<PendingMissionDto> getPendingMissions(Long userId) {
-        User user = findUserById(userId);
-        validateStudent(user);
+    public CursorPage<PendingMissionDto> getPendingMissions(Long userId, Long cursor, Integer size) {
+        validateStudent(userId);
+        int pageSize = CursorPage.resolveSize(size);
 
-        List<MissionParticipation> pendingParticipations =
-                missionParticipationRepository.findByUserAndParticipationStatusOrderByIdDesc(
-                        user, MissionParticipationStatus.PENDING);
+        //참여 + 미션 + 사진 key 를 한 번의 쿼리로 조회 (참여 건수와 무관하게 쿼리 수 고정)
+        List<PendingMissionRow> pendingRows = missionParticipationRepository.findPendingMissionRows(
+                userId, MissionParticipationStatus.PENDING, cursor, Limit.of(pageSize + 1));
 
-        return pendingParticipations.stream()
-                .map(this::convertToPendingMissionDto)
-                .collect(Collectors.toList());
+        return CursorPage.of(pendingRows, pageSize, PendingMissionRow::participationId)
+                .map(this::convertToPendingMissionDto);
     }
 
-    private PendingMissionDto convertToPendingMissionDto(MissionParticipation participation) {
-        Mission mission = participation.getMission();
-
-        // 제출한 사진 URL 조회
-        String photoUrl = fileRepository.findByParticipationAndIsDeletedFalse(participation)
-                .map(file -> s3Uploader.getUrlFile(file.getFileKey()))
-                .orElse(null);
+    private PendingMissionDto convertToPendingMissionDto(PendingMissionRow row) {
+        // 목록에는 썸네일 URL (원본은 상세 조회에서 제공)
+        String previewKey = row.previewKey();
+        String photoUrl = previewKey == null ? null : s3Uploader.getUrlFile(previewKey);
 
         return PendingMissionDto.builder()
-                .participationId(participation.getId())
-                .missionId(mission.getId())
-                .title(mission.getTitle())
-                .missionPoint(mission.getMissionPoint())
-                .category(mission.getCategory())
-                .iconImageUrl(mission.getIconUrl())
-                .missionType(mission.getMissionType())
-                .participationStatus(participation.getParticipationStatus())
+                .participationId(row.participationId())
+                .missionId(row.missionId())
+                .title(row.title())
+                .missionPoint(row.missionPoint())
+                .category(row.category())
+                .iconImageUrl(row.iconUrl())
+                .missionType(row.missionType())
+                .participationStatus(row.participationStatus())
                 .submittedPhotoUrl(photoUrl)
-                .submittedAt(participation.getCreatedAt())
+                .submittedAt(row.submittedAt())
                 .build();
     }
 
-    public List<ParticipationHistoryDto> getParticipationHistory(Long userId) {
-        User user = findUserById(userId);
-        validateStudent(user);
-
-        List<MissionParticipation> participations =
-                missionParticipationRepository.findByUserOrderByIdDesc(user);
-
-        return participations.stream()
-                .map(this::convertToHistoryDto)
-                .collect(Collectors.toList());
-    }
+    public CursorPage<ParticipationHistoryDto> getParticipationHistory(Long userId, Long cursor, Integer size) {
+        validateStudent(userId);
+        int pageSize = CursorPage.resolveSize(size);
 
-    private ParticipationHistoryDto convertToHistoryDto(MissionParticipation participation) {
-        Mission mission = participation.getMission();
+        List<ParticipationHistoryDto> rows = missionParticipationRepository.findHistoryRows(
+                userId, cursor, Limit.of(pageSize + 1));
 
-        return ParticipationHistoryDto.builder()
-                .participationId(participation.getId())
-                .missionId(mission.getId())
-                .title(mission.getTitle())
-                .bannerUrl(mission.getBannerUrl())
-                .iconUrl(mission.getIconUrl())
-                .missionPoint(mission.getMissionPoint())
-                .participationCount(mission.getParticipationCount())
-                .participationStatus(participation.getParticipationStatus())
-                .participatedAt(participation.getCreatedAt())
-                .build();
+        return CursorPage.of(rows, pageSize, ParticipationHistoryDto::getParticipationId);
     }
 
     public ParticipationHistoryDetailDto getParticipationHistoryDetail(Long userId, Long participationId) {
+        validateStudent(userId);
         User user = findUserById(userId);
-        validateStudent(user);
 
         MissionParticipation participation =
                 missionParticipationRepository.findByIdAndUser(participationId, user)
@@ -222,6 +248,7 @@ public class MissionService {
 
         String submittedPhotoUrl = fileRepository
                 .findByParticipationAndIsDeletedFalse(participation)
+                .filter(file -> file.getUploadStatus() == UploadStatus.UPLOADED)
                 .map(file -> s3Uploader.getUrlFile(file.getFileKey()))
                 .orElse(null);
 
@@ -12,8 +12,11 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -25,8 +28,17 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @Getter
+@Table(uniqueConstraints = {
+        @UniqueConstraint(name = MissionParticipation.UK_MISSION_USER, columnNames = {"mission_id", "user_id"})
+}, indexes = {
+        @Index(name = "idx_participation_mission_status", columnList = "mission_id, participationStatus"),
+        @Index(name = "idx_participation_user_status_id", columnList = "user_id, participationStatus, id")
+})
 public class MissionParticipation extends BaseCreatedEntity {
 
+    //사용자당 미션 1회 제출 제약 (중복 제출 판단에 사용)
+    public static final String UK_MISSION_USER = "uk_participation_mission_user";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -42,15 +54,4 @@ public class MissionParticipation extends BaseCreatedEntity {
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn
     private User user;
-
-
-    public void approveParticipation(User participant, Long rewardPoint) {
-        participationStatus = MissionParticipationStatus.APPROVED;
-        participant.grantMissionPoint(rewardPoint);
-    }
-
-    public void rejectParticipation() {
-        participationStatus = MissionParticipationStatus.REJECTED;
-    }
-
 }
@@ -0,0 +1,20 @@
+package com.mobile.server.domain.missionParticipation.eum;
+
+import lombok.Getter;
+
+@Getter
+public enum ReviewAction {
+    APPROVE(MissionParticipationStatus.APPROVED, ReviewResult.APPROVED),
+    REJECT(MissionParticipationStatus.REJECTED, ReviewResult.REJECTED);
+
+
+    private final MissionParticipationStatus targetStatus;
+    private final ReviewResult result;
+
+    ReviewAction(MissionParticipationStatus targetStatus, ReviewResult result) {
+        this.targetStatus = targetStatus;
+        this.result = result;
+    }
+
+
+}
@@ -0,0 +1,17 @@
+package com.mobile.server.domain.missionParticipation.eum;
+
+public enum ReviewResult {
+    APPROVED("승인"),
+    REJECTED("반려"),
+    ALREADY_PROCESSED("이미 처리됨"),
+    NOT_FOUND("존재하지 않음");
+
+
+    private final String result;
+
+    ReviewResult(String result) {
+        this.result = result;
+    }
+
+
+}
@@ -2,23 +2,85 @@ package com.mobile.server.domain.missionParticipation.repository;
 
 import com.mobile.server.domain.auth.entity.User;
 import com.mobile.server.domain.mission.domain.Mission;
+import com.mobile.server.domain.mission.dto.ApprovalRequestRow;
+import com.mobile.server.domain.mission.dto.ParticipationHistoryDto;
+import com.mobile.server.domain.mission.dto.PendingMissionRow;
 import com.mobile.server.domain.missionParticipation.domain.MissionParticipation;
 import com.mobile.server.domain.missionParticipation.eum.MissionParticipationStatus;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public interface MissionParticipationRepository extends JpaRepository<MissionParticipation, Long> {
 
     Optional<MissionParticipation> findByMissionAndUser(Mission mission, User user);
 
-    List<MissionParticipation> findByUserAndParticipationStatusOrderByIdDesc(
-            User user, MissionParticipationStatus status);
+    @Query("""
+            SELECT NEW com.mobile.server.domain.mission.dto.PendingMissionRow(
+                p.id, p.createdAt, p.participationStatus,
+                m.id, m.title, m.missionPoint, m.category, m.iconUrl, m.missionType,
+                f.fileKey, f.thumbnailKey, f.uploadStatus)
+            FROM MissionParticipation p
+            JOIN p.mission m
+            LEFT JOIN File f ON f.participation = p AND f.isDeleted = false
+            WHERE p.user.id = :userId AND p.participationStatus = :status
+              AND (:cursor IS NULL OR p.id < :cursor)
+            ORDER BY p.id DESC
+            """)
+    List<PendingMissionRow> findPendingMissionRows(@Param("userId") Long userId,
+                                                   @Param("status") MissionParticipationStatus status,
+                                                   @Param("cursor") Long cursor,
+                                                   Limit limit);
 
-    List<MissionParticipation> findByUserOrderByIdDesc(User user);
+    @Query("""
+            SELECT NEW com.mobile.server.domain.mission.dto.ParticipationHistoryDto(
+                p.id, m.id, m.title, m.bannerUrl, m.iconUrl, m.missionPoint, m.participationCount,
+                p.participationStatus, p.createdAt)
+            FROM MissionParticipation p
+            JOIN p.mission m
+            WHERE p.user.id = :userId
+              AND (:cursor IS NULL OR p.id < :cursor)
+            ORDER BY p.id DESC
+            """)
+    List<ParticipationHistoryDto> findHistoryRows(@Param("userId") Long userId,
+                                                  @Param("cursor") Long cursor,
+                                                  Limit limit);
+
+    //미션별 승인 요청 목록 - 닉네임/사진·썸네일 key/업로드 상태만 projection, 오래된 제출부터 id 커서 기준
+    @Query("""
+            SELECT NEW com.mobile.server.domain.mission.dto.ApprovalRequestRow(
+                p.id, p.createdAt, u.nickname, f.fileKey, f.thumbnailKey, f.perceptualHash, f.uploadStatus)
+            FROM MissionParticipation p
+            JOIN p.user u
+            JOIN File f ON f.participation = p AND f.isDeleted = false
+            WHERE p.mission.id = :missionId AND p.participationStatus = :status
+              AND (:cursor IS NULL OR p.id > :cursor)
+            ORDER BY p.id
+            """)
+    List<ApprovalRequestRow> findApprovalRequestRows(@Param("missionId") Long missionId,
+                                                     @Param("status") MissionParticipationStatus status,
+                                                     @Param("cursor") Long cursor,
+                                                     Limit limit);
 
     Optional<MissionParticipation> findByIdAndUser(Long id, User user);
 
+    //현재 상태가 from 인 경우에만 to 로 변경 (compare-and-set, 이미 처리된 요청은 0 반환)
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE MissionParticipation p
+            SET p.participationStatus = :to
+            WHERE p.id = :participationId AND p.participationStatus = :from
+            """)
+    int updateStatusIfCurrent(@Param("participationId") Long participationId,
+                              @Param("from") MissionParticipationStatus from,
+                              @Param("to") MissionParticipationStatus to);
+
 }
@@ -0,0 +1,82 @@
+package com.mobile.server.domain.missionParticipation.repository;
+
+import com.mobile.server.domain.mission.dto.ParticipationReviewRow;
+import com.mobile.server.domain.missionParticipation.eum.MissionParticipationStatus;
+import jakarta.persistence.EntityManager;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/*
+ * 관리자 일괄 승인/반려 전용 JDBC 저장소
+ * - 엔티티를 로딩하지 않고 청크 단위 집합 UPDATE / JDBC batch 로 처리
+ * - JPA 와 같은 트랜잭션(커넥션)을 사용하므로, 조회 전 flush / 변경 후 clear 로 영속성 컨텍스트와 맞춘다
+ */
+@Repository
+@RequiredArgsConstructor
+public class ParticipationReviewJdbcRepository {
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final EntityManager entityManager;
+
+    public List<Long> findIdsByMissionIdAndStatus(Long missionId, MissionParticipationStatus status, int limit) {
+        entityManager.flush();
+        return jdbcTemplate.queryForList("""
+                SELECT id FROM mission_participation
+                WHERE mission_id = ? AND participation_status = ?
+                ORDER BY id
+                LIMIT ?
+                """, Long.class, missionId, status.name(), limit);
+    }
+
+    //처리 대상 행을 잠그고 현재 상태를 조회 (동시 단건 승인과 포인트 중복 적립 방지)
+    public Map<Long, ParticipationReviewRow> lockForReview(Collection<Long> participationIds) {
+        entityManager.flush();
+        List<ParticipationReviewRow> rows = namedParameterJdbcTemplate.query("""
+                        SELECT id, participation_status, user_id, mission_id
+                        FROM mission_participation
+                        WHERE id IN (:ids)
+                        FOR UPDATE
+                        """, new MapSqlParameterSource("ids", participationIds),
+                (rs, rowNum) -> new ParticipationReviewRow(
+                        rs.getLong("id"),
+                        MissionParticipationStatus.valueOf(rs.getString("participation_status")),
+                        rs.getLong("user_id"),
+                        rs.getLong("mission_id")));
+        return rows.stream().collect(Collectors.toMap(ParticipationReviewRow::participationId, Function.identity()));
+    }
+
+    public int updateStatus(Collection<Long> participationIds, MissionParticipationStatus from,
+                            MissionParticipationStatus to) {
+        int updated = namedParameterJdbcTemplate.update("""
+                        UPDATE mission_participation
+                        SET participation_status = :to
+                        WHERE id IN (:ids) AND participation_status = :from
+                        """, new MapSqlParameterSource()
+                        .addValue("ids", participationIds)
+                        .addValue("from", from.name())
+                        .addValue("to", to.name()));
+        entityManager.clear();
+        return updated;
+    }
+
+    //승인된 참여마다 미션 포인트 적립 - 한 번의 JDBC batch 로 전송
+    public void grantMissionPoints(List<ParticipationReviewRow> approvedRows) {
+        jdbcTemplate.batchUpdate("""
+                        UPDATE users
+                        SET cumulative_point = cumulative_point + (SELECT mission_point FROM mission WHERE id = ?)
+                        WHERE id = ?
+                        """, approvedRows.stream()
+                        .map(row -> new Object[]{row.missionId(), row.userId()})
+                        .toList());
+        entityManager.clear();
+    }
+
+}
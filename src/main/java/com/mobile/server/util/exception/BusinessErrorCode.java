@@ -24,7 +24,9 @@ public enum BusinessErrorCode {
     DUPLICATE_MISSION_SUBMISSION(HttpStatus.BAD_REQUEST, "이미 제출한 미션입니다."),
     DUPLICATE_STUDENT_ID(HttpStatus.CONFLICT, "이미 사용 중인 학번입니다."),
     DUPLICATE_NICKNAME(HttpStatus.CONFLICT, "이미 사용 중인 닉네임입니다."),
-    INVALID_CREDENTIALS(HttpStatus.UNAUTHORIZED, "아이디 또는 비밀번호가 올바르지 않습니다.");
+    INVALID_CREDENTIALS(HttpStatus.UNAUTHORIZED, "아이디 또는 비밀번호가 올바르지 않습니다."),
+    INVALID_REFRESH_TOKEN(HttpStatus.UNAUTHORIZED, "유효하지 않은 리프레시 토큰입니다. 다시 로그인해 주세요."),
+    LOGIN_OVERLOADED(HttpStatus.SERVICE_UNAVAILABLE, "로그인 요청이 많습니다. 잠시 후 다시 시도해 주세요.");
 
 
     private final HttpStatus status;
@@ -6,7 +6,9 @@ import java.util.Map;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.TypeMismatchException;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
@@ -24,11 +26,21 @@ import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExcep
 @Slf4j
 public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
 
+    //503 응답 시 클라이언트 재시도 대기 시간(초)
+    @Value("${app.retry-after-seconds:2}")
+    private long retryAfterSeconds;
+
 
     @ExceptionHandler(BusinessException.class)
     public ResponseEntity<ProblemDetail> handleBusinessException(BusinessException e, WebRequest request) {
         log.info("BusinessException Response", e);
         BusinessErrorCode errorCode = e.getErrorCode();
+        if (errorCode.getStatus() == HttpStatus.SERVICE_UNAVAILABLE) {
+            ProblemDetail body = createProblemDetail(errorCode.getStatus(), errorCode.getMessage(), null, request);
+            return ResponseEntity.status(errorCode.getStatus())
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                    .body(body);
+        }
         return createResponse(errorCode.getStatus(), errorCode.getMessage(), null, request);
     }
 
@@ -0,0 +1,237 @@
+package com.mobile.server.util.file;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.OptionalInt;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.metadata.IIOMetadata;
+import javax.imageio.metadata.IIOMetadataNode;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import lombok.extern.slf4j.Slf4j;
+import org.w3c.dom.Node;
+
+/*
+썸네일 생성 / 업로드 정규화 / 유사 사진 해시가 공유하는 이미지 디코딩·축소·인코딩 (JDK ImageIO 만 사용)
+- 디코딩 전에 헤더로 크기를 확인해 max-pixels 를 넘는 이미지(압축 폭탄 등)는 처리하지 않음
+- 목표 크기보다 2배 이상 큰 이미지는 subsampling 으로 읽어 디코딩 메모리를 줄임
+- JPEG 의 EXIF Orientation 을 디코딩 직후 픽셀에 적용 (재인코딩 결과에는 메타데이터가 없으므로 회전이 유실되지 않도록)
+- EXIF 가 있는데 Orientation 을 해석할 수 없으면 처리하지 않음 (잘못 회전된 결과보다 원본 유지가 안전)
+ */
+@Slf4j
+final class ImageCodec {
+
+    private static final String JPEG_METADATA_FORMAT = "javax_imageio_jpeg_image_1.0";
+    private static final String APP1_MARKER = "225";
+    private static final byte[] EXIF_HEADER = "Exif\0\0".getBytes(StandardCharsets.US_ASCII);
+    private static final int TIFF_MAGIC = 42;
+    private static final int ORIENTATION_TAG = 0x0112;
+    private static final int IFD_ENTRY_SIZE = 12;
+    private static final int ORIENTATION_NORMAL = 1;
+
+    private ImageCodec() {
+    }
+
+    //ImageIO 가 읽지 못하는 형식이거나 max-pixels 초과, EXIF Orientation 해석 불가면 empty (회전 적용된 이미지)
+    static Optional<BufferedImage> decode(Path source, int targetEdge, long maxPixels) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(source.toFile())) {
+            if (input == null) {
+                return Optional.empty();
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return Optional.empty();
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, false);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > maxPixels) {
+                    log.warn("이미지 해상도가 너무 커 처리하지 않습니다. path: {}, size: {}x{}",
+                            source.getFileName(), width, height);
+                    return Optional.empty();
+                }
+                OptionalInt orientation = readOrientation(reader);
+                if (orientation.isEmpty()) {
+                    log.warn("EXIF Orientation 을 읽을 수 없어 처리하지 않습니다. path: {}", source.getFileName());
+                    return Optional.empty();
+                }
+                ImageReadParam param = reader.getDefaultReadParam();
+                int subsampling = Math.max(1, Math.max(width, height) / (targetEdge * 2));
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                return Optional.of(applyOrientation(reader.read(0, param), orientation.getAsInt()));
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    //JPEG 이 아니거나 EXIF 가 없으면 회전 없음(1), EXIF 가 있는데 해석할 수 없으면 empty
+    static OptionalInt readOrientation(ImageReader reader) {
+        IIOMetadata metadata;
+        try {
+            metadata = reader.getImageMetadata(0);
+        } catch (IOException e) {
+            return OptionalInt.empty();
+        }
+        if (metadata == null || !JPEG_METADATA_FORMAT.equals(metadata.getNativeMetadataFormatName())) {
+            return OptionalInt.of(ORIENTATION_NORMAL);
+        }
+        Node markers = findChild(metadata.getAsTree(JPEG_METADATA_FORMAT), "markerSequence");
+        for (Node marker = markers == null ? null : markers.getFirstChild(); marker != null;
+             marker = marker.getNextSibling()) {
+            if (isExifSegment(marker)) {
+                return parseOrientation((byte[]) ((IIOMetadataNode) marker).getUserObject());
+            }
+        }
+        return OptionalInt.of(ORIENTATION_NORMAL);
+    }
+
+    //EXIF APP1 세그먼트("Exif\0\0" + TIFF)의 IFD0 에서 Orientation(1~8) 을 찾음
+    static OptionalInt parseOrientation(byte[] segment) {
+        try {
+            ByteBuffer tiff = ByteBuffer.wrap(segment, EXIF_HEADER.length, segment.length - EXIF_HEADER.length).slice();
+            byte byteOrder = tiff.get(0);
+            if (byteOrder != tiff.get(1) || (byteOrder != 'I' && byteOrder != 'M')) {
+                return OptionalInt.empty();
+            }
+            tiff.order(byteOrder == 'I' ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN);
+            if (tiff.getShort(2) != TIFF_MAGIC) {
+                return OptionalInt.empty();
+            }
+            int ifd = tiff.getInt(4);
+            int entries = Short.toUnsignedInt(tiff.getShort(ifd));
+            for (int i = 0; i < entries; i++) {
+                int entry = ifd + 2 + i * IFD_ENTRY_SIZE;
+                if (Short.toUnsignedInt(tiff.getShort(entry)) == ORIENTATION_TAG) {
+                    int orientation = Short.toUnsignedInt(tiff.getShort(entry + 8));
+                    return orientation >= 1 && orientation <= 8 ? OptionalInt.of(orientation) : OptionalInt.empty();
+                }
+            }
+            return OptionalInt.of(ORIENTATION_NORMAL);
+        } catch (IndexOutOfBoundsException | IllegalArgumentException e) {
+            return OptionalInt.empty();
+        }
+    }
+
+    //EXIF Orientation 2~8 을 좌우 반전/회전으로 적용 (5~8 은 가로세로가 바뀜)
+    static BufferedImage applyOrientation(BufferedImage image, int orientation) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        AffineTransform transform = switch (orientation) {
+            case 2 -> new AffineTransform(-1, 0, 0, 1, width, 0);
+            case 3 -> new AffineTransform(-1, 0, 0, -1, width, height);
+            case 4 -> new AffineTransform(1, 0, 0, -1, 0, height);
+            case 5 -> new AffineTransform(0, 1, 1, 0, 0, 0);
+            case 6 -> new AffineTransform(0, 1, -1, 0, height, 0);
+            case 7 -> new AffineTransform(0, -1, -1, 0, height, width);
+            case 8 -> new AffineTransform(0, -1, 1, 0, 0, width);
+            default -> null;
+        };
+        if (transform == null) {
+            return image;
+        }
+        boolean swapped = orientation >= 5;
+        BufferedImage oriented = new BufferedImage(swapped ? height : width, swapped ? width : height,
+                image.getColorModel().hasAlpha() ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = oriented.createGraphics();
+        try {
+            graphics.drawImage(image, transform, null);
+        } finally {
+            graphics.dispose();
+        }
+        return oriented;
+    }
+
+    private static boolean isExifSegment(Node marker) {
+        if (!"unknown".equals(marker.getNodeName()) || !(marker instanceof IIOMetadataNode node)) {
+            return false;
+        }
+        Node tag = marker.getAttributes().getNamedItem("MarkerTag");
+        return tag != null && APP1_MARKER.equals(tag.getNodeValue())
+                && node.getUserObject() instanceof byte[] data
+                && data.length >= EXIF_HEADER.length
+                && Arrays.equals(data, 0, EXIF_HEADER.length, EXIF_HEADER, 0, EXIF_HEADER.length);
+    }
+
+    private static Node findChild(Node parent, String name) {
+        for (Node child = parent.getFirstChild(); child != null; child = child.getNextSibling()) {
+            if (name.equals(child.getNodeName())) {
+                return child;
+            }
+        }
+        return null;
+    }
+
+    //긴 변이 maxEdge 이하가 되도록 비율 유지 축소 (작은 이미지는 확대하지 않음), 투명 배경은 흰색
+    static BufferedImage resize(BufferedImage original, int maxEdge) {
+        double scale = Math.min(1.0, (double) maxEdge / Math.max(original.getWidth(), original.getHeight()));
+        int width = Math.max(1, (int) Math.round(original.getWidth() * scale));
+        int height = Math.max(1, (int) Math.round(original.getHeight() * scale));
+
+        BufferedImage resized = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = resized.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.drawImage(original, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return resized;
+    }
+
+    //비율을 무시하고 width x height 흑백으로 축소 (밝기 값 0~255)
+    static int[][] toGray(BufferedImage original, int width, int height) {
+        BufferedImage gray = new BufferedImage(width, height, BufferedImage.TYPE_BYTE_GRAY);
+        Graphics2D graphics = gray.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.drawImage(original, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        int[][] luminance = new int[height][width];
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                luminance[y][x] = gray.getRaster().getSample(x, y, 0);
+            }
+        }
+        return luminance;
+    }
+
+    static byte[] encodeJpeg(BufferedImage image, float quality) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (ImageOutputStream imageOutput = ImageIO.createImageOutputStream(output)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(quality);
+            writer.setOutput(imageOutput);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return output.toByteArray();
+    }
+}
@@ -0,0 +1,74 @@
+package com.mobile.server.util.file;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Component;
+
+/*
+업로드 전 이미지 정규화 (선택 단계, app.upload.normalize.enabled)
+- 디코딩(EXIF 회전 적용) -> 긴 변 max-edge 이하로 축소 -> 메타데이터 없이 JPEG 재인코딩
+- 결과가 원본보다 작을 때만 스풀 파일을 교체, 그 외(미지원 형식/해상도 초과/대기열 초과/오류)는 원본 그대로 업로드
+- CPU 연산이므로 업로드 스레드풀과 분리된 ImageTaskExecutor 에서 실행
+ */
+@Component
+@Slf4j
+public class ImageNormalizer {
+
+    public static final String CONTENT_TYPE = "image/jpeg";
+
+    private final boolean enabled;
+    private final int maxEdge;
+    private final float quality;
+    private final long maxPixels;
+    private final ImageTaskExecutor imageTaskExecutor;
+
+    public ImageNormalizer(@Value("${app.upload.normalize.enabled:false}") boolean enabled,
+                           @Value("${app.upload.normalize.max-edge:2048}") int maxEdge,
+                           @Value("${app.upload.normalize.quality:0.85}") float quality,
+                           @Value("${app.upload.max-pixels:50000000}") long maxPixels,
+                           ImageTaskExecutor imageTaskExecutor) {
+        this.enabled = enabled;
+        this.maxEdge = maxEdge;
+        this.quality = quality;
+        this.maxPixels = maxPixels;
+        this.imageTaskExecutor = imageTaskExecutor;
+    }
+
+    //스풀 파일을 정규화 결과로 교체한 경우 교체된 크기(byte) 반환
+    public Optional<Long> normalize(Path source) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        try {
+            return imageTaskExecutor.execute(() -> replaceIfSmaller(source));
+        } catch (TaskRejectedException e) {
+            log.warn("이미지 정규화 대기열이 가득 찼습니다. 원본을 업로드합니다. path: {}", source.getFileName());
+        } catch (IOException | RuntimeException e) {
+            log.warn("이미지 정규화에 실패했습니다. 원본을 업로드합니다. path: {}, Error: {}",
+                    source.getFileName(), e.getMessage());
+        }
+        return Optional.empty();
+    }
+
+    private Optional<Long> replaceIfSmaller(Path source) throws IOException {
+        Optional<BufferedImage> decoded = ImageCodec.decode(source, maxEdge, maxPixels);
+        if (decoded.isEmpty()) {
+            return Optional.empty();
+        }
+        byte[] encoded = ImageCodec.encodeJpeg(ImageCodec.resize(decoded.get(), maxEdge), quality);
+        if (encoded.length >= Files.size(source)) {
+            return Optional.empty();
+        }
+        Path temp = source.resolveSibling(source.getFileName() + ".normalizing");
+        Files.write(temp, encoded);
+        Files.move(temp, source, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return Optional.of((long) encoded.length);
+    }
+}
@@ -0,0 +1,55 @@
+package com.mobile.server.util.file;
+
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+/*
+이미지 디코딩/인코딩 전용 제한된 스레드풀 (정규화 / 썸네일 / 지각 해시 공통)
+- CPU 연산이므로 업로드(I/O) 스레드풀과 분리, 동시 디코딩 수를 제한해 디코딩 버퍼 메모리도 제한 (pool-size 0 이면 CPU 코어 수)
+- 대기열이 가득 차면 TaskRejectedException -> 호출 측은 해당 처리를 건너뜀
+ */
+@Component
+public class ImageTaskExecutor {
+
+    private final ThreadPoolTaskExecutor executor;
+
+    public ImageTaskExecutor(@Value("${app.upload.image.pool-size:0}") int poolSize,
+                             @Value("${app.upload.image.queue-capacity:16}") int queueCapacity) {
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        this.executor = new ThreadPoolTaskExecutor();
+        this.executor.setCorePoolSize(threads);
+        this.executor.setMaxPoolSize(threads);
+        this.executor.setQueueCapacity(queueCapacity);
+        this.executor.setThreadNamePrefix("image-task-");
+        this.executor.initialize();
+    }
+
+    //작업 스레드에서 실행하고 완료까지 대기 (작업의 IOException / RuntimeException 은 그대로 전달)
+    public <T> T execute(Callable<T> task) throws IOException {
+        try {
+            return executor.submit(task).get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException ioException) {
+                throw ioException;
+            }
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IOException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("이미지 처리 대기 중 인터럽트되었습니다.");
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
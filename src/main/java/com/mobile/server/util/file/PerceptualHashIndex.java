@@ -0,0 +1,148 @@
+package com.mobile.server.util.file;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/*
+참여 사진 지각 해시의 메모리 인덱스 (multi-index hashing)
+- 64bit 해시를 16bit 조각 4개로 나눠 조각마다 65536 버킷 테이블에 저장
+- 해밍 거리가 radius 이하인 두 해시는 적어도 한 조각의 거리가 radius / 4 이하 (비둘기집 원리)
+  -> 조각마다 그 거리 안의 버킷만 확인한 뒤 전체 거리로 검증하므로 저장 건수와 무관하게 탐색 범위가 작음
+- 항목은 기본형 배열로만 보관 (항목당 약 32byte)
+- 재시작 시 PerceptualHashIndexLoader 가 DB 에서 다시 적재
+ */
+@Component
+public class PerceptualHashIndex {
+
+    private static final int CHUNKS = 4;
+    private static final int CHUNK_BITS = 16;
+    private static final int BUCKETS = 1 << CHUNK_BITS;
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final int radius;
+    private final int maxMatches;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    //항목 번호 -> (해시, 참여 id)
+    private long[] hashes = new long[INITIAL_CAPACITY];
+    private long[] participationIds = new long[INITIAL_CAPACITY];
+    private int size;
+
+    //[조각][조각 값] -> 항목 번호 목록
+    private final int[][][] buckets = new int[CHUNKS][BUCKETS][];
+    private final int[][] bucketSizes = new int[CHUNKS][BUCKETS];
+
+    public PerceptualHashIndex(@Value("${app.upload.similar-photo.radius:8}") int radius,
+                               @Value("${app.upload.similar-photo.max-matches:5}") int maxMatches) {
+        this.radius = radius;
+        this.maxMatches = maxMatches;
+    }
+
+    public void add(Long participationId, long hash) {
+        addAll(List.of(participationId), hash);
+    }
+
+    public void addAll(Collection<Long> participationIds, long hash) {
+        lock.writeLock().lock();
+        try {
+            for (Long participationId : participationIds) {
+                append(participationId, hash);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    //현재 트랜잭션이 커밋된 경우에만 추가 (롤백된 참여가 인덱스에 남지 않도록)
+    public void addAfterCommit(Long participationId, long hash) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            add(participationId, hash);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                add(participationId, hash);
+            }
+        });
+    }
+
+    //해밍 거리 radius 이내의 다른 참여 id (최대 max-matches 건)
+    public List<Long> findSimilar(long hash, long excludeParticipationId) {
+        Set<Long> matches = new LinkedHashSet<>();
+        lock.readLock().lock();
+        try {
+            for (int chunk = 0; chunk < CHUNKS && matches.size() < maxMatches; chunk++) {
+                probe(chunk, chunkOf(hash, chunk), radius / CHUNKS, 0, hash, excludeParticipationId, matches);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return new ArrayList<>(matches);
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    //조각 값에서 flipsLeft 개 이하의 비트를 뒤집은 버킷을 모두 확인 (같은 조합 중복 방지를 위해 fromBit 이후만 뒤집음)
+    private void probe(int chunk, int key, int flipsLeft, int fromBit, long hash, long excludeParticipationId,
+                       Set<Long> matches) {
+        collect(chunk, key, hash, excludeParticipationId, matches);
+        for (int bit = fromBit; flipsLeft > 0 && bit < CHUNK_BITS && matches.size() < maxMatches; bit++) {
+            probe(chunk, key ^ (1 << bit), flipsLeft - 1, bit + 1, hash, excludeParticipationId, matches);
+        }
+    }
+
+    private void collect(int chunk, int key, long hash, long excludeParticipationId, Set<Long> matches) {
+        int[] entries = buckets[chunk][key];
+        for (int i = 0; i < bucketSizes[chunk][key] && matches.size() < maxMatches; i++) {
+            int entry = entries[i];
+            if (participationIds[entry] != excludeParticipationId
+                    && PerceptualHasher.distance(hashes[entry], hash) <= radius) {
+                matches.add(participationIds[entry]);
+            }
+        }
+    }
+
+    private void append(long participationId, long hash) {
+        if (size == hashes.length) {
+            hashes = Arrays.copyOf(hashes, size * 2);
+            participationIds = Arrays.copyOf(participationIds, size * 2);
+        }
+        int entry = size++;
+        hashes[entry] = hash;
+        participationIds[entry] = participationId;
+        for (int chunk = 0; chunk < CHUNKS; chunk++) {
+            int key = chunkOf(hash, chunk);
+            int[] entries = buckets[chunk][key];
+            int count = bucketSizes[chunk][key];
+            if (entries == null) {
+                entries = new int[4];
+            } else if (count == entries.length) {
+                entries = Arrays.copyOf(entries, count * 2);
+            }
+            entries[count] = entry;
+            buckets[chunk][key] = entries;
+            bucketSizes[chunk][key] = count + 1;
+        }
+    }
+
+    private static int chunkOf(long hash, int chunk) {
+        return (int) (hash >>> (chunk * CHUNK_BITS)) & (BUCKETS - 1);
+    }
+}
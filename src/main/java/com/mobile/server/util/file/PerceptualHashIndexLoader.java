@@ -0,0 +1,49 @@
+package com.mobile.server.util.file;
+
+import com.mobile.server.domain.file.dto.PerceptualHashRow;
+import com.mobile.server.domain.file.respository.FileRepository;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+/*
+재시작 시 DB 에 저장된 지각 해시로 유사 사진 인덱스를 다시 적재
+- File id 커서로 batch-size 건씩 나눠 조회 (전체를 한 번에 메모리에 올리지 않음)
+ */
+@Component
+@Slf4j
+public class PerceptualHashIndexLoader {
+
+    private final FileRepository fileRepository;
+    private final PerceptualHashIndex perceptualHashIndex;
+    private final int batchSize;
+
+    public PerceptualHashIndexLoader(FileRepository fileRepository, PerceptualHashIndex perceptualHashIndex,
+                                     @Value("${app.upload.similar-photo.load-batch-size:10000}") int batchSize) {
+        this.fileRepository = fileRepository;
+        this.perceptualHashIndex = perceptualHashIndex;
+        this.batchSize = batchSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long startedAt = System.currentTimeMillis();
+        long cursor = 0L;
+        List<PerceptualHashRow> rows;
+        do {
+            rows = fileRepository.findPerceptualHashRows(cursor, Limit.of(batchSize));
+            for (PerceptualHashRow row : rows) {
+                perceptualHashIndex.add(row.participationId(), row.perceptualHash());
+            }
+            if (!rows.isEmpty()) {
+                cursor = rows.get(rows.size() - 1).fileId();
+            }
+        } while (rows.size() == batchSize);
+        log.info("유사 사진 인덱스 적재 완료. size: {}, elapsed: {}ms", perceptualHashIndex.size(),
+                System.currentTimeMillis() - startedAt);
+    }
+}
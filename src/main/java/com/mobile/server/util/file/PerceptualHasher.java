@@ -0,0 +1,58 @@
+package com.mobile.server.util.file;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/*
+유사 사진 탐지용 64bit 지각 해시 (dHash)
+- 9x8 흑백으로 축소한 뒤 가로로 이웃한 픽셀의 밝기 비교 결과를 비트로 기록
+- 재인코딩/크기 변경/약한 보정에는 비트가 거의 바뀌지 않으므로 해밍 거리로 유사도를 판단
+- ImageIO 가 읽지 못하는 형식이면 해시 없음 (유사 사진 탐지 대상에서 제외)
+- 디코딩은 ImageTaskExecutor(CPU 전용 풀)에서 실행
+ */
+@Component
+public class PerceptualHasher {
+
+    private static final int HASH_WIDTH = 9;
+    private static final int HASH_HEIGHT = 8;
+    //9x8 로 바로 줄이면 계단 현상이 심해 한 번 중간 크기로 축소
+    private static final int SAMPLE_EDGE = 64;
+
+    private final long maxPixels;
+    private final ImageTaskExecutor imageTaskExecutor;
+
+    public PerceptualHasher(@Value("${app.upload.max-pixels:50000000}") long maxPixels,
+                            ImageTaskExecutor imageTaskExecutor) {
+        this.maxPixels = maxPixels;
+        this.imageTaskExecutor = imageTaskExecutor;
+    }
+
+    public static int distance(long left, long right) {
+        return Long.bitCount(left ^ right);
+    }
+
+    //대기열이 가득 차면 TaskRejectedException
+    public Optional<Long> hash(Path source) throws IOException {
+        return imageTaskExecutor.execute(() -> compute(source));
+    }
+
+    private Optional<Long> compute(Path source) throws IOException {
+        Optional<BufferedImage> original = ImageCodec.decode(source, SAMPLE_EDGE, maxPixels);
+        if (original.isEmpty()) {
+            return Optional.empty();
+        }
+        int[][] luminance = ImageCodec.toGray(ImageCodec.resize(original.get(), SAMPLE_EDGE),
+                HASH_WIDTH, HASH_HEIGHT);
+        long hash = 0L;
+        for (int y = 0; y < HASH_HEIGHT; y++) {
+            for (int x = 0; x < HASH_WIDTH - 1; x++) {
+                hash = (hash << 1) | (luminance[y][x] < luminance[y][x + 1] ? 1L : 0L);
+            }
+        }
+        return Optional.of(hash);
+    }
+}
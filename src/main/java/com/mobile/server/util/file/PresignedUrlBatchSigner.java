@@ -0,0 +1,61 @@
+package com.mobile.server.util.file;
+
+import com.mobile.server.util.exception.BusinessErrorCode;
+import com.mobile.server.util.exception.BusinessException;
+import jakarta.annotation.PreDestroy;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+/*
+목록 한 페이지 분량의 presigned URL 을 병렬 서명
+- 제한된 스레드풀에서 서명, 대기열이 가득 차면 요청 스레드에서 직접 서명 (CallerRuns)
+- 결과는 입력 key 순서를 유지 (null key 는 null URL), 하나라도 실패하면 전체 실패
+ */
+@Component
+public class PresignedUrlBatchSigner {
+
+    private final S3Uploader s3Uploader;
+    private final ThreadPoolTaskExecutor executor;
+
+    public PresignedUrlBatchSigner(S3Uploader s3Uploader,
+                                   @Value("${app.upload.presigned-url.pool-size:8}") int poolSize,
+                                   @Value("${app.upload.presigned-url.queue-capacity:200}") int queueCapacity) {
+        this.s3Uploader = s3Uploader;
+        this.executor = new ThreadPoolTaskExecutor();
+        this.executor.setCorePoolSize(poolSize);
+        this.executor.setMaxPoolSize(poolSize);
+        this.executor.setQueueCapacity(queueCapacity);
+        this.executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        this.executor.setThreadNamePrefix("s3-presign-");
+        this.executor.initialize();
+    }
+
+    public List<String> signAll(List<String> keys) {
+        //1건 이하는 스레드 전환 비용이 더 크므로 바로 서명
+        if (keys.size() <= 1) {
+            return keys.stream().map(key -> key == null ? null : s3Uploader.getUrlFile(key)).toList();
+        }
+        List<CompletableFuture<String>> futures = keys.stream()
+                .map(key -> key == null ? CompletableFuture.<String>completedFuture(null)
+                        : CompletableFuture.supplyAsync(() -> s3Uploader.getUrlFile(key), executor))
+                .toList();
+        try {
+            return futures.stream().map(CompletableFuture::join).toList();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof BusinessException businessException) {
+                throw businessException;
+            }
+            throw new BusinessException(BusinessErrorCode.INTERNAL_SERVER_ERROR, e.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,114 @@
+package com.mobile.server.util.file;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/*
+S3 presigned GET URL 캐시
+- key: 파일 key, 같은 파일을 목록 화면마다 다시 서명하지 않도록 재사용
+- 만료(url-ttl) 전 safety-margin 시점까지만 재사용 -> 클라이언트가 받은 URL 은 최소 safety-margin 동안 유효
+- max-size 초과 시 가장 오래 사용되지 않은 항목부터 제거 (LRU)
+ */
+@Component
+public class PresignedUrlCache implements MeterBinder {
+
+    private final int maxSize;
+    private final Duration urlTtl;
+    private final long reuseMs;
+    private final Map<String, CachedUrl> cache;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+
+    public PresignedUrlCache(@Value("${app.upload.presigned-url.max-size:10000}") int maxSize,
+                             @Value("${app.upload.presigned-url.ttl:10m}") Duration urlTtl,
+                             @Value("${app.upload.presigned-url.safety-margin:2m}") Duration safetyMargin) {
+        this.maxSize = maxSize;
+        this.urlTtl = urlTtl;
+        this.reuseMs = Math.max(0, urlTtl.minus(safetyMargin).toMillis());
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedUrl> eldest) {
+                return size() > PresignedUrlCache.this.maxSize;
+            }
+        };
+    }
+
+    //캐시 hit 시 저장된 URL 반환, miss 시 signer(key, 유효기간) 로 서명 후 저장
+    public String getOrSign(String key, BiFunction<String, Duration, String> signer) {
+        long now = System.currentTimeMillis();
+
+        CachedUrl cached;
+        synchronized (cache) {
+            cached = cache.get(key);
+            if (cached != null && cached.reuseUntilMs() <= now) {
+                cache.remove(key);
+                cached = null;
+            }
+        }
+        if (cached != null) {
+            hitCount.increment();
+            return cached.url();
+        }
+
+        missCount.increment();
+        String url = signer.apply(key, urlTtl);
+        if (reuseMs > 0) {
+            synchronized (cache) {
+                cache.put(key, new CachedUrl(url, now + reuseMs));
+            }
+        }
+        return url;
+    }
+
+    public void evict(String key) {
+        synchronized (cache) {
+            cache.remove(key);
+        }
+    }
+
+    public void clear() {
+        synchronized (cache) {
+            cache.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("s3.presigned.cache.hits", hitCount, LongAdder::sum)
+                .description("presigned URL 캐시 hit 수")
+                .register(registry);
+        FunctionCounter.builder("s3.presigned.cache.misses", missCount, LongAdder::sum)
+                .description("presigned URL 캐시 miss 수 (서명 발생)")
+                .register(registry);
+        Gauge.builder("s3.presigned.cache.size", this, PresignedUrlCache::size)
+                .description("presigned URL 캐시 항목 수")
+                .register(registry);
+    }
+
+    private record CachedUrl(String url, long reuseUntilMs) {
+    }
+}
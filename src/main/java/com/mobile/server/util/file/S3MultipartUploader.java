@@ -0,0 +1,98 @@
+package com.mobile.server.util.file;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+
+/*
+스트림을 part 단위로 잘라 S3 멀티파트 업로드
+- 업로드 하나당 힙 사용량은 part 버퍼 1개(app.upload.part-size)로 고정
+- part 하나 크기 이하의 작은 파일은 단일 PutObject 로 처리
+ */
+@Component
+@Slf4j
+public class S3MultipartUploader {
+
+    //S3 멀티파트 최소 part 크기 (마지막 part 제외)
+    private static final int MIN_PART_SIZE = 5 * 1024 * 1024;
+
+    private final S3Client s3Client;
+    private final int partSize;
+
+    public S3MultipartUploader(S3Client s3Client, @Value("${app.upload.part-size:5MB}") DataSize partSize) {
+        this.s3Client = s3Client;
+        this.partSize = (int) Math.max(partSize.toBytes(), MIN_PART_SIZE);
+    }
+
+    public void upload(String bucket, String key, InputStream inputStream, String contentType) throws IOException {
+        byte[] buffer = new byte[partSize];
+        int read = readFully(inputStream, buffer);
+        if (read < partSize) {
+            s3Client.putObject(PutObjectRequest.builder().bucket(bucket).key(key).contentType(contentType).build(),
+                    body(buffer, read));
+            return;
+        }
+
+        String uploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                .bucket(bucket).key(key).contentType(contentType).build()).uploadId();
+        List<CompletedPart> parts = new ArrayList<>();
+        try {
+            int partNumber = 1;
+            while (read > 0) {
+                String eTag = s3Client.uploadPart(UploadPartRequest.builder()
+                        .bucket(bucket).key(key).uploadId(uploadId)
+                        .partNumber(partNumber).contentLength((long) read)
+                        .build(), body(buffer, read)).eTag();
+                parts.add(CompletedPart.builder().partNumber(partNumber).eTag(eTag).build());
+                partNumber++;
+                read = readFully(inputStream, buffer);
+            }
+            s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                    .bucket(bucket).key(key).uploadId(uploadId)
+                    .multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())
+                    .build());
+        } catch (IOException | RuntimeException e) {
+            log.warn("멀티파트 업로드를 중단합니다. key: {}, Error: {}", key, e.getMessage());
+            s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                    .bucket(bucket).key(key).uploadId(uploadId).build());
+            throw e;
+        }
+    }
+
+    public int getPartSize() {
+        return partSize;
+    }
+
+    //버퍼를 복사하지 않고 그대로 전달 (동기 클라이언트라 호출이 끝나면 버퍼 재사용 가능)
+    private RequestBody body(byte[] buffer, int length) {
+        return RequestBody.fromInputStream(new ByteArrayInputStream(buffer, 0, length), length);
+    }
+
+    //버퍼가 가득 차거나 스트림이 끝날 때까지 읽기
+    private int readFully(InputStream inputStream, byte[] buffer) throws IOException {
+        int total = 0;
+        while (total < buffer.length) {
+            int n = inputStream.read(buffer, total, buffer.length - total);
+            if (n < 0) {
+                break;
+            }
+            total += n;
+        }
+        return total;
+    }
+}
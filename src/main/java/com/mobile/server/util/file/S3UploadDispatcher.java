@@ -0,0 +1,253 @@
+package com.mobile.server.util.file;
+
+import com.mobile.server.domain.file.constant.UploadStatus;
+import com.mobile.server.domain.file.domain.File;
+import com.mobile.server.domain.file.respository.FileRepository;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/*
+스풀된 파일을 S3 로 비동기 업로드
+- 트랜잭션 커밋 이후에만 업로드 시작 (롤백 시 스풀 파일 삭제)
+- 제한된 스레드풀 + 대기열, 실패 시 재시도
+- PENDING 상태는 DB 에 남으므로 재시작/대기열 초과 시 resumePending 에서 재개
+- 스풀은 인스턴스마다 로컬이므로 스풀이 없는 PENDING 은 다른 인스턴스의 제출일 수 있음
+  -> 생성 후 missing-spool-grace 가 지난 행만 FAILED (그 전에는 소유 인스턴스가 업로드/재개하도록 둠)
+- 업로드 전 이미지 정규화(선택), 원본/저장 크기를 File 에 기록
+- 원본 업로드 후 스풀 파일로 썸네일 생성 / 지각 해시 계산 (ImageTaskExecutor 에서 실행, 실패해도 원본 업로드는 유지)
+ */
+@Component
+@Slf4j
+public class S3UploadDispatcher {
+
+    private final S3Uploader s3Uploader;
+    private final UploadSpool uploadSpool;
+    private final FileRepository fileRepository;
+    private final ThumbnailGenerator thumbnailGenerator;
+    private final ImageNormalizer imageNormalizer;
+    private final PerceptualHasher perceptualHasher;
+    private final PerceptualHashIndex perceptualHashIndex;
+    private final ThreadPoolTaskExecutor executor;
+    private final int maxAttempts;
+    private final Duration retryBackoff;
+    private final Duration missingSpoolGrace;
+
+    //중복 업로드 방지 (같은 key 가 재개 주기와 커밋 콜백에서 동시에 들어오는 경우)
+    //값: 처리 중에 같은 key 의 dispatch 가 다시 들어왔는지 -> 처리가 끝나면 한 번 더 실행 (그 사이 커밋된 제출 반영)
+    private final Map<String, Boolean> inFlight = new ConcurrentHashMap<>();
+
+    public S3UploadDispatcher(S3Uploader s3Uploader, UploadSpool uploadSpool, FileRepository fileRepository,
+                              ThumbnailGenerator thumbnailGenerator, ImageNormalizer imageNormalizer,
+                              PerceptualHasher perceptualHasher, PerceptualHashIndex perceptualHashIndex,
+                              @Value("${app.upload.pool-size:4}") int poolSize,
+                              @Value("${app.upload.queue-capacity:200}") int queueCapacity,
+                              @Value("${app.upload.max-attempts:3}") int maxAttempts,
+                              @Value("${app.upload.retry-backoff:1s}") Duration retryBackoff,
+                              @Value("${app.upload.missing-spool-grace:PT1H}") Duration missingSpoolGrace) {
+        this.s3Uploader = s3Uploader;
+        this.uploadSpool = uploadSpool;
+        this.fileRepository = fileRepository;
+        this.thumbnailGenerator = thumbnailGenerator;
+        this.imageNormalizer = imageNormalizer;
+        this.perceptualHasher = perceptualHasher;
+        this.perceptualHashIndex = perceptualHashIndex;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoff = retryBackoff;
+        this.missingSpoolGrace = missingSpoolGrace;
+        this.executor = new ThreadPoolTaskExecutor();
+        this.executor.setCorePoolSize(poolSize);
+        this.executor.setMaxPoolSize(poolSize);
+        this.executor.setQueueCapacity(queueCapacity);
+        this.executor.setThreadNamePrefix("s3-upload-");
+        this.executor.initialize();
+    }
+
+    //현재 트랜잭션 커밋 이후 업로드 예약
+    public void dispatchAfterCommit(String key, String contentType) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            dispatch(key, contentType);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    dispatch(key, contentType);
+                } else if (status == STATUS_ROLLED_BACK) {
+                    deleteSpoolIfUnreferenced(key);
+                }
+            }
+        });
+    }
+
+    public void dispatch(String key, String contentType) {
+        if (inFlight.merge(key, Boolean.FALSE, (running, requeued) -> Boolean.TRUE)) {
+            return;
+        }
+        try {
+            executor.execute(() -> upload(key, contentType));
+        } catch (TaskRejectedException e) {
+            inFlight.remove(key);
+            log.warn("업로드 대기열이 가득 찼습니다. 다음 재개 주기에 처리합니다. key: {}", key);
+        }
+    }
+
+    //재시작 시 남아 있는 PENDING 업로드 재개
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeOnStartup() {
+        resumePending();
+    }
+
+    //대기열 초과/재시도 소진으로 남은 PENDING 업로드 재개
+    @Scheduled(fixedDelayString = "${app.upload.resume-interval:PT5M}", initialDelayString = "${app.upload.resume-interval:PT5M}")
+    public void resumePending() {
+        for (File file : fileRepository.findAllByUploadStatus(UploadStatus.PENDING)) {
+            dispatch(file.getFileKey(), file.getFileType());
+        }
+    }
+
+    private void upload(String key, String contentType) {
+        try {
+            //이미 다른 경로에서 처리된 경우 건너뜀 (같은 내용의 File 은 key 를 공유하므로 하나라도 PENDING 이면 업로드)
+            if (!fileRepository.existsByFileKeyAndUploadStatus(key, UploadStatus.PENDING)) {
+                return;
+            }
+            //같은 내용을 먼저 제출한 쪽이 업로드를 끝내고 스풀을 지운 뒤 커밋된 제출 -> 다시 올리지 않고 결과만 복사
+            Optional<File> stored = fileRepository.findFirstByFileKeyAndUploadStatus(key, UploadStatus.UPLOADED);
+            if (stored.isPresent()) {
+                adoptStoredFile(key, stored.get());
+                return;
+            }
+            if (!uploadSpool.exists(key)) {
+                markStaleAsFailed(key);
+                return;
+            }
+            uploadWithRetry(key, storedContentTypeOf(key, contentType));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            if (inFlight.remove(key)) {
+                dispatch(key, contentType);
+            }
+        }
+    }
+
+    private void uploadWithRetry(String key, String contentType) throws InterruptedException {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                s3Uploader.uploadFile(key, uploadSpool.resolve(key), contentType);
+                fileRepository.updateUploadStatus(key, UploadStatus.PENDING, UploadStatus.UPLOADED);
+                createThumbnail(key);
+                indexPerceptualHash(key);
+                uploadSpool.delete(key);
+                return;
+            } catch (RuntimeException e) {
+                if (attempt >= maxAttempts) {
+                    //PENDING 유지 -> 다음 재개 주기에 다시 시도
+                    log.error("S3 업로드 재시도 횟수를 초과했습니다. key: {}, Error: {}", key, e.getMessage());
+                    return;
+                }
+                log.warn("S3 업로드 실패 ({}/{}), 재시도합니다. key: {}", attempt, maxAttempts, key);
+                Thread.sleep(retryBackoff.toMillis() * attempt);
+            }
+        }
+    }
+
+    private void adoptStoredFile(String key, File stored) {
+        List<Long> participationIds = fileRepository.findParticipationIdsByFileKeyAndUploadStatus(key,
+                UploadStatus.PENDING);
+        fileRepository.adoptStoredFile(key, UploadStatus.PENDING, UploadStatus.UPLOADED, stored.getFileType(),
+                stored.getStoredFileSize(), stored.getThumbnailKey(), stored.getPerceptualHash());
+        if (stored.getPerceptualHash() != null) {
+            perceptualHashIndex.addAll(participationIds, stored.getPerceptualHash());
+        }
+        uploadSpool.delete(key);
+    }
+
+    private void markStaleAsFailed(String key) {
+        int failed = fileRepository.updateUploadStatusCreatedBefore(key, UploadStatus.PENDING, UploadStatus.FAILED,
+                LocalDateTime.now().minus(missingSpoolGrace));
+        if (failed > 0) {
+            log.error("스풀 파일이 없어 업로드할 수 없습니다. key: {}, FAILED: {}", key, failed);
+        } else {
+            log.debug("스풀 파일이 없어 소유 인스턴스의 업로드를 기다립니다. key: {}", key);
+        }
+    }
+
+    //같은 key 를 기다리는 다른 제출이 있거나 업로드 처리 중이면 스풀 파일을 남겨둠
+    //(UPLOADED 변경 후에도 썸네일/지각 해시가 스풀을 읽고, 처리가 끝나면 업로드 쪽에서 삭제)
+    private void deleteSpoolIfUnreferenced(String key) {
+        if (!inFlight.containsKey(key)
+                && !fileRepository.existsByFileKeyAndUploadStatus(key, UploadStatus.PENDING)) {
+            uploadSpool.delete(key);
+        }
+    }
+
+    //정규화는 key 당 1회 - 재개/재시도로 다시 들어오면 기록된 저장 결과를 그대로 사용
+    private String storedContentTypeOf(String key, String contentType) {
+        Optional<File> normalized = fileRepository.findFirstByFileKeyAndUploadStatusAndStoredFileSizeIsNotNull(key,
+                UploadStatus.PENDING);
+        if (normalized.isEmpty()) {
+            return normalize(key, contentType);
+        }
+        //정규화 이후 커밋된 같은 key 의 제출에도 저장 결과 기록 (이미 기록된 행은 그대로)
+        fileRepository.updateStoredFile(key, normalized.get().getStoredFileSize(), normalized.get().getFileType());
+        return normalized.get().getFileType();
+    }
+
+    //정규화로 스풀 파일이 교체되면 JPEG 으로, 아니면 원본 형식 그대로 저장 크기 기록
+    private String normalize(String key, String contentType) {
+        Optional<Long> normalizedSize = imageNormalizer.normalize(uploadSpool.resolve(key));
+        String storedContentType = normalizedSize.isPresent() ? ImageNormalizer.CONTENT_TYPE : contentType;
+        fileRepository.updateStoredFile(key, normalizedSize.orElseGet(() -> uploadSpool.size(key)),
+                storedContentType);
+        return storedContentType;
+    }
+
+    //썸네일이 없으면 목록에서 원본 URL 을 사용하므로 실패는 로그만 남김
+    private void createThumbnail(String key) {
+        try {
+            thumbnailGenerator.generate(uploadSpool.resolve(key)).ifPresent(thumbnail -> {
+                String thumbnailKey = ThumbnailGenerator.thumbnailKeyOf(key);
+                s3Uploader.uploadBytes(thumbnailKey, thumbnail, ThumbnailGenerator.CONTENT_TYPE);
+                fileRepository.updateThumbnailKey(key, thumbnailKey);
+            });
+        } catch (IOException | RuntimeException e) {
+            log.warn("썸네일 생성에 실패했습니다. key: {}, Error: {}", key, e.getMessage());
+        }
+    }
+
+    //UPLOADED 이후 1회만 실행 (재시도로 같은 참여가 인덱스에 중복 추가되지 않도록), 실패는 로그만 남김
+    private void indexPerceptualHash(String key) {
+        try {
+            perceptualHasher.hash(uploadSpool.resolve(key)).ifPresent(hash -> {
+                fileRepository.updatePerceptualHash(key, hash);
+                perceptualHashIndex.addAll(fileRepository.findParticipationIdsByFileKeyAndUploadStatus(key,
+                        UploadStatus.UPLOADED), hash);
+            });
+        } catch (IOException | RuntimeException e) {
+            log.warn("지각 해시 계산에 실패했습니다. key: {}, Error: {}", key, e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -4,9 +4,14 @@ package com.mobile.server.util.file;
 import com.mobile.server.domain.file.dto.FileDetailDto;
 import com.mobile.server.util.exception.BusinessErrorCode;
 import com.mobile.server.util.exception.BusinessException;
+import io.awspring.cloud.s3.ObjectMetadata;
 import io.awspring.cloud.s3.S3Exception;
 import io.awspring.cloud.s3.S3Template;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.util.List;
 import java.util.Set;
@@ -19,12 +24,15 @@ import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.util.unit.DataSize;
 import org.springframework.web.multipart.MultipartFile;
+import software.amazon.awssdk.core.exception.SdkException;
 
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class S3Uploader {
     private final S3Template s3Template;
+    private final S3MultipartUploader s3MultipartUploader;
+    private final PresignedUrlCache presignedUrlCache;
     // s3 bucket name
     @Value("${spring.cloud.aws.s3.bucket}")
     private String bucket;
@@ -34,6 +42,8 @@ public class S3Uploader {
     private DataSize maxSizeByte;
 
 
+    private static final String CONTENT_KEY_PREFIX = "sha256/";
+
     //업로드 가능한 파일 List
     private static final Set<String> ALLOWED_EXTENSIONS = Set.of("jpg", "jpeg", "png", "gif", "bmp", "tiff", "heic",
             "webp");
@@ -56,17 +66,47 @@ public class S3Uploader {
     }
 
 
+    //로컬에 스풀된 파일 업로드 (검증은 스풀 이전에 완료된 상태)
+    public void uploadFile(String upLoadKey, Path path, String contentType) {
+        try (InputStream inputStream = Files.newInputStream(path)) {
+            s3MultipartUploader.upload(bucket, upLoadKey, inputStream, contentType);
+        } catch (IOException e) {
+            throw new BusinessException(BusinessErrorCode.FILE_UPLOAD_FAIL, e);
+        } catch (SdkException e) {
+            log.error("s3 파일 업로드에 실패했습니다. key: {}, Error: {}", upLoadKey, e.getMessage());
+            throw new BusinessException(BusinessErrorCode.INTERNAL_SERVER_ERROR, e);
+        }
+    }
+
+
+    //서버에서 생성한 작은 파일(썸네일 등) 업로드
+    public void uploadBytes(String upLoadKey, byte[] bytes, String contentType) {
+        try (InputStream inputStream = new ByteArrayInputStream(bytes)) {
+            s3Template.upload(bucket, upLoadKey, inputStream, ObjectMetadata.builder().contentType(contentType).build());
+        } catch (IOException e) {
+            throw new BusinessException(BusinessErrorCode.FILE_UPLOAD_FAIL, e);
+        } catch (S3Exception | SdkException e) {
+            log.error("s3 파일 업로드에 실패했습니다. key: {}, Error: {}", upLoadKey, e.getMessage());
+            throw new BusinessException(BusinessErrorCode.INTERNAL_SERVER_ERROR, e);
+        }
+    }
+
+
     //단일 파일 수정
     public void correctFile(String upLoadKey, MultipartFile file) {
         uploadFile(upLoadKey, file);
     }
 
 
-    //파일 하나에 대한 url 반환
+    //파일 하나에 대한 url 반환 (만료 전까지 서명된 url 재사용)
     public String getUrlFile(String key) {
         validateKey(key);
+        return presignedUrlCache.getOrSign(key, this::signGetUrl);
+    }
+
+    private String signGetUrl(String key, Duration duration) {
         try {
-            return s3Template.createSignedGetURL(bucket, key, Duration.ofMinutes(10)).toString();
+            return s3Template.createSignedGetURL(bucket, key, duration).toString();
         } catch (S3Exception e) {
             log.error("s3 파일 가져오기에 실패했습니다. key: {}, Error:{}", key, e.getMessage());
             throw new BusinessException(BusinessErrorCode.INTERNAL_SERVER_ERROR, e);
@@ -119,18 +159,23 @@ public class S3Uploader {
         return fileName.substring(lastDotIndex + 1).toLowerCase();
     }
 
-    //s3에 파일 업로드
+    //s3에 파일 업로드 (part 단위 스트리밍, 전체 파일을 메모리에 올리지 않음)
     private void uploadToS3(MultipartFile file, String key) {
-        try {
-            s3Template.upload(bucket, key, file.getInputStream());
+        try (InputStream inputStream = file.getInputStream()) {
+            s3MultipartUploader.upload(bucket, key, inputStream, file.getContentType());
         } catch (IOException e) {
             throw new BusinessException(BusinessErrorCode.FILE_UPLOAD_FAIL, e);
-        } catch (S3Exception e) {
+        } catch (SdkException e) {
             log.error("s3 파일 업로드에 실패했습니다. key: {}, Error: {}", key, e.getMessage());
             throw new BusinessException(BusinessErrorCode.INTERNAL_SERVER_ERROR, e);
         }
     }
 
+    //내용 기반 key (같은 바이트는 항상 같은 key -> 중복 업로드 시 S3 PUT 생략)
+    public static String contentKeyOf(String sha256) {
+        return CONTENT_KEY_PREFIX + sha256;
+    }
+
     //파일에대한 Key 생성
     private String getUniqueFileName(String originalFilename) {
         return UUID.randomUUID().toString() + "_" + originalFilename;
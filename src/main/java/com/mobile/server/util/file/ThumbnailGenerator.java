@@ -0,0 +1,58 @@
+package com.mobile.server.util.file;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/*
+목록 미리보기용 썸네일 생성 (JDK ImageIO 만 사용)
+- 긴 변이 max-edge 이하가 되도록 비율 유지 축소 (작은 이미지는 확대하지 않음)
+- 투명 배경은 흰색으로 채운 뒤 JPEG 으로 인코딩
+- ImageIO 가 읽지 못하는 형식(heic, webp 등)은 썸네일 없이 원본 URL 을 사용
+- 디코딩/인코딩은 ImageTaskExecutor(CPU 전용 풀)에서 실행, EXIF 회전은 디코딩 시 적용
+ */
+@Component
+@Slf4j
+public class ThumbnailGenerator {
+
+    public static final String CONTENT_TYPE = "image/jpeg";
+    private static final String THUMBNAIL_SUFFIX = "_thumb.jpg";
+
+    private final int maxEdge;
+    private final float quality;
+    private final long maxPixels;
+    private final ImageTaskExecutor imageTaskExecutor;
+
+    public ThumbnailGenerator(@Value("${app.upload.thumbnail.max-edge:320}") int maxEdge,
+                              @Value("${app.upload.thumbnail.quality:0.8}") float quality,
+                              @Value("${app.upload.max-pixels:50000000}") long maxPixels,
+                              ImageTaskExecutor imageTaskExecutor) {
+        this.maxEdge = maxEdge;
+        this.quality = quality;
+        this.maxPixels = maxPixels;
+        this.imageTaskExecutor = imageTaskExecutor;
+    }
+
+    //원본과 같은 위치에 저장되는 썸네일 key
+    public static String thumbnailKeyOf(String key) {
+        return key + THUMBNAIL_SUFFIX;
+    }
+
+    //대기열이 가득 차면 TaskRejectedException
+    public Optional<byte[]> generate(Path source) throws IOException {
+        return imageTaskExecutor.execute(() -> encode(source));
+    }
+
+    private Optional<byte[]> encode(Path source) throws IOException {
+        Optional<BufferedImage> original = ImageCodec.decode(source, maxEdge, maxPixels);
+        if (original.isEmpty()) {
+            log.info("썸네일을 만들 수 없는 이미지입니다. path: {}", source.getFileName());
+            return Optional.empty();
+        }
+        return Optional.of(ImageCodec.encodeJpeg(ImageCodec.resize(original.get(), maxEdge), quality));
+    }
+}
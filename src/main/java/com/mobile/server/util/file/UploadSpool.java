@@ -0,0 +1,114 @@
+package com.mobile.server.util.file;
+
+import com.mobile.server.util.exception.BusinessErrorCode;
+import com.mobile.server.util.exception.BusinessException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+/*
+S3 업로드 전 파일을 보관하는 로컬 디스크 스풀
+- 요청 스레드는 스풀에 쓰기만 하고, 실제 업로드는 S3UploadDispatcher 가 처리
+- 재시작 후에도 업로드를 재개할 수 있도록 영구 디스크 경로(app.upload.spool-dir) 사용 권장
+ */
+@Component
+@Slf4j
+public class UploadSpool {
+
+    private final Path directory;
+
+    public UploadSpool(@Value("${app.upload.spool-dir:${java.io.tmpdir}/upload-spool}") String directory) {
+        this.directory = Paths.get(directory);
+        try {
+            Files.createDirectories(this.directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("업로드 스풀 디렉터리를 생성할 수 없습니다: " + directory, e);
+        }
+    }
+
+    //key 가 내용 해시로 정해지므로 임시 파일에 쓰면서 SHA-256 계산 (업로드 스트림은 한 번만 읽음)
+    public HashedSpoolFile writeHashed(MultipartFile file) {
+        Path temp = directory.resolve(UUID.randomUUID() + ".tmp");
+        MessageDigest digest = sha256();
+        try (InputStream inputStream = new DigestInputStream(file.getInputStream(), digest)) {
+            Files.copy(inputStream, temp);
+        } catch (IOException e) {
+            deleteQuietly(temp);
+            throw new BusinessException(BusinessErrorCode.FILE_UPLOAD_FAIL, e);
+        }
+        return new HashedSpoolFile(temp, HexFormat.of().formatHex(digest.digest()));
+    }
+
+    //임시 파일을 key 위치로 이동
+    //같은 내용이 이미 스풀에 있으면 기존 파일 유지 (정규화로 교체됐을 수 있고 업로드 중에 바뀌지 않도록)
+    public void commit(HashedSpoolFile spooled, String key) {
+        if (exists(key)) {
+            discard(spooled);
+            return;
+        }
+        try {
+            Files.move(spooled.path(), resolve(key), StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            deleteQuietly(spooled.path());
+            throw new BusinessException(BusinessErrorCode.FILE_UPLOAD_FAIL, e);
+        }
+    }
+
+    public void discard(HashedSpoolFile spooled) {
+        deleteQuietly(spooled.path());
+    }
+
+    public Path resolve(String key) {
+        //key 에 포함된 원본 파일명으로 디렉터리 밖을 가리키지 않도록 치환
+        return directory.resolve(key.replaceAll("[^A-Za-z0-9._-]", "_"));
+    }
+
+    public long size(String key) {
+        try {
+            return Files.size(resolve(key));
+        } catch (IOException e) {
+            throw new BusinessException(BusinessErrorCode.FILE_UPLOAD_FAIL, e);
+        }
+    }
+
+    public boolean exists(String key) {
+        return Files.exists(resolve(key));
+    }
+
+    public void delete(String key) {
+        deleteQuietly(resolve(key));
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("스풀 파일 삭제에 실패했습니다. path: {}, Error: {}", path.getFileName(), e.getMessage());
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public record HashedSpoolFile(Path path, String sha256) {
+    }
+}
@@ -0,0 +1,51 @@
+package com.mobile.server.util.pagination;
+
+import java.util.List;
+import java.util.function.Function;
+import org.springframework.http.ResponseEntity;
+
+/*
+id 기반 커서(keyset) 페이지
+- size + 1 건을 조회해 다음 페이지 존재 여부를 판단 (count 쿼리 없음)
+- 응답 본문은 기존과 같은 배열, 다음 커서는 X-Next-Cursor 헤더로 전달 (마지막 페이지면 헤더 없음)
+ */
+public record CursorPage<T>(List<T> items, Long nextCursor) {
+
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    public static final int DEFAULT_SIZE = 20;
+    public static final int MAX_SIZE = 50;
+
+    //요청 size 보정 (미지정/0 이하 -> 기본값, 최대값 초과 -> 최대값)
+    public static int resolveSize(Integer size) {
+        if (size == null || size <= 0) {
+            return DEFAULT_SIZE;
+        }
+        return Math.min(size, MAX_SIZE);
+    }
+
+    //size + 1 건 조회 결과로 페이지 생성
+    public static <T> CursorPage<T> of(List<T> fetched, int size, Function<T, Long> idExtractor) {
+        if (fetched.size() <= size) {
+            return new CursorPage<>(fetched, null);
+        }
+        List<T> items = fetched.subList(0, size);
+        return new CursorPage<>(items, idExtractor.apply(items.get(size - 1)));
+    }
+
+    public <R> CursorPage<R> map(Function<T, R> mapper) {
+        return new CursorPage<>(items.stream().map(mapper).toList(), nextCursor);
+    }
+
+    public ResponseEntity<List<T>> toResponse() {
+        return toResponse(items, nextCursor);
+    }
+
+    //페이지 항목을 감싼 객체를 본문으로 응답할 때 사용 (다음 커서는 동일하게 헤더로 전달)
+    public static <R> ResponseEntity<R> toResponse(R body, Long nextCursor) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+        if (nextCursor != null) {
+            builder.header(NEXT_CURSOR_HEADER, String.valueOf(nextCursor));
+        }
+        return builder.body(body);
+    }
+}
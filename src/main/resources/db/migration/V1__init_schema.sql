@@ -0,0 +1,86 @@
+-- 기존 ddl-auto: create 로 생성되던 스키마 (baseline)
+-- 이미 Hibernate 로 생성된 DB 는 baseline-on-migrate 로 이 버전을 건너뛰므로, 그 DB 와 완전히 같아야 함
+-- 제약 이름은 Hibernate 기본 규칙(UK/FK + 테이블·컬럼 이름 해시)으로 생성된 이름 그대로 사용
+-- 이후 추가된 컬럼/테이블/인덱스는 V2 부터 추가
+
+CREATE TABLE mission
+(
+    id                  BIGINT                     NOT NULL AUTO_INCREMENT,
+    created_at          DATETIME(6)                NOT NULL,
+    title               VARCHAR(255)               NOT NULL,
+    content             VARCHAR(255),
+    mission_point       BIGINT                     NOT NULL,
+    mission_type        ENUM ('EVENT','SCHEDULED') NOT NULL,
+    start_date          DATE                       NOT NULL,
+    dead_line           DATE                       NOT NULL,
+    icon_url            VARCHAR(255)               NOT NULL,
+    banner_url          VARCHAR(255)               NOT NULL,
+    status              ENUM ('OPEN','CLOSED')     NOT NULL,
+    category            VARCHAR(255)               NOT NULL,
+    participation_count INTEGER                    NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE regular_mission
+(
+    id            BIGINT       NOT NULL AUTO_INCREMENT,
+    created_at    DATETIME(6)  NOT NULL,
+    title         VARCHAR(255) NOT NULL,
+    content       VARCHAR(255),
+    mission_point BIGINT       NOT NULL,
+    icon_url      VARCHAR(255) NOT NULL,
+    banner_url    VARCHAR(255) NOT NULL,
+    category      VARCHAR(255) NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE users
+(
+    id               BIGINT                   NOT NULL AUTO_INCREMENT,
+    created_at       DATETIME(6)              NOT NULL,
+    nickname         VARCHAR(255)             NOT NULL,
+    student_id       VARCHAR(8)               NOT NULL,
+    password         VARCHAR(255)             NOT NULL,
+    role             ENUM ('STUDENT','ADMIN') NOT NULL,
+    cumulative_point BIGINT                   NOT NULL,
+    profile_image_id BIGINT,
+    PRIMARY KEY (id),
+    CONSTRAINT UK2ty1xmrrgtn89xt7kyxx6ta7h UNIQUE (nickname),
+    CONSTRAINT UKqh3otyipv2k9hqte4a1abcyhq UNIQUE (student_id),
+    CONSTRAINT UK4unapofvpijp79n4j3sheoun7 UNIQUE (profile_image_id)
+);
+
+CREATE TABLE mission_participation
+(
+    id                   BIGINT                                 NOT NULL AUTO_INCREMENT,
+    created_at           DATETIME(6)                            NOT NULL,
+    participation_status ENUM ('PENDING','APPROVED','REJECTED') NOT NULL,
+    mission_id           BIGINT,
+    user_id              BIGINT,
+    PRIMARY KEY (id),
+    CONSTRAINT FK780lurfpnjatqgqu600hg1s5e FOREIGN KEY (mission_id) REFERENCES mission (id),
+    CONSTRAINT FKh4j8m9kg3ed0n3bg6sv7a0o5b FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+CREATE TABLE file
+(
+    id                       BIGINT       NOT NULL AUTO_INCREMENT,
+    created_at               DATETIME(6)  NOT NULL,
+    file_name                VARCHAR(255) NOT NULL,
+    file_key                 VARCHAR(512) NOT NULL,
+    file_type                VARCHAR(100) NOT NULL,
+    file_size                BIGINT       NOT NULL,
+    is_deleted               BIT          NOT NULL,
+    mission_id               BIGINT,
+    mission_participation_id BIGINT,
+    PRIMARY KEY (id),
+    CONSTRAINT UKmsojqy4d5ruriknrdmjhe8wwx UNIQUE (file_key),
+    CONSTRAINT FKdtcltfncenmjdryr2f6d6g6n2 FOREIGN KEY (mission_id) REFERENCES mission (id),
+    CONSTRAINT FKensc7bfsu53r3ph26btwrwrll FOREIGN KEY (mission_participation_id) REFERENCES mission_participation (id),
+    CHECK (
+        (CASE WHEN mission_id IS NOT NULL THEN 1 ELSE 0 END) +
+        (CASE WHEN mission_participation_id IS NOT NULL THEN 1 ELSE 0 END) <= 1)
+);
+
+ALTER TABLE users
+    ADD CONSTRAINT FK5vkvx5cu2a0j8t396q7srdp76 FOREIGN KEY (profile_image_id) REFERENCES file (id);
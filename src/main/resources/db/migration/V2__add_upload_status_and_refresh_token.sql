@@ -0,0 +1,17 @@
+-- baseline 이후 엔티티에 추가된 컬럼/테이블
+
+-- 비동기 S3 업로드 상태 (기존 파일은 모두 업로드 완료 상태)
+ALTER TABLE file
+    ADD COLUMN upload_status ENUM ('PENDING','UPLOADED','FAILED') DEFAULT 'UPLOADED' NOT NULL;
+
+-- RefreshToken 회전 (app.auth.refresh.store: jpa)
+CREATE TABLE refresh_token
+(
+    family_id  VARCHAR(36) NOT NULL,
+    user_id    BIGINT      NOT NULL,
+    rotate_id  VARCHAR(36) NOT NULL,
+    expires_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (family_id)
+);
+
+CREATE INDEX idx_refresh_token_expires_at ON refresh_token (expires_at);
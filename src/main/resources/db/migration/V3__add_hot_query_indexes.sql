@@ -0,0 +1,26 @@
+-- 조회 빈도가 높은 조건에 대한 복합 인덱스
+
+-- 상태별 미션 + id 커서 (관리자 미션 목록)
+CREATE INDEX idx_mission_status_id ON mission (status, id);
+
+-- 미션별 상태 참여 조회 (승인 요청 목록 / 미션 요약)
+CREATE INDEX idx_participation_mission_status ON mission_participation (mission_id, participation_status);
+
+-- 미션별 사용자 참여 여부 (findByMissionAndUser)
+CREATE INDEX idx_participation_mission_user ON mission_participation (mission_id, user_id);
+
+-- 사용자별 상태 목록 + id 커서 (승인 대기 / 참여 이력)
+CREATE INDEX idx_participation_user_status_id ON mission_participation (user_id, participation_status, id);
+
+-- 스케줄러: 마감 / 시작 대상 미션
+CREATE INDEX idx_mission_status_dead_line ON mission (status, dead_line);
+CREATE INDEX idx_mission_status_start_date ON mission (status, start_date);
+
+-- 타입별 진행 중 미션
+CREATE INDEX idx_mission_type_status ON mission (mission_type, status);
+
+-- 참여 인증 파일 조회
+CREATE INDEX idx_file_participation_deleted ON file (mission_participation_id, is_deleted);
+
+-- 업로드 재개 대상 조회
+CREATE INDEX idx_file_upload_status ON file (upload_status);
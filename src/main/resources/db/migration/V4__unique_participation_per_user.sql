@@ -0,0 +1,6 @@
+-- 사용자당 미션 1회 제출 보장 (중복 제출은 insert 시 유니크 제약 위반으로 판단)
+-- 기존 (mission_id, user_id) 인덱스는 유니크 제약의 인덱스로 대체
+ALTER TABLE mission_participation
+    ADD CONSTRAINT uk_participation_mission_user UNIQUE (mission_id, user_id);
+
+DROP INDEX idx_participation_mission_user ON mission_participation;
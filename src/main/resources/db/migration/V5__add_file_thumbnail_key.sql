@@ -0,0 +1,2 @@
+-- 목록 미리보기용 썸네일 key (원본과 같은 위치의 <key>_thumb.jpg, 생성 전이면 NULL)
+ALTER TABLE file ADD COLUMN thumbnail_key VARCHAR(512);
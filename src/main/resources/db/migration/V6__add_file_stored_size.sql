@@ -0,0 +1,2 @@
+-- 실제 저장된 크기 (업로드 정규화 시 재인코딩 결과 크기), file_size 는 업로드된 원본 크기
+ALTER TABLE file ADD COLUMN stored_file_size BIGINT;
@@ -0,0 +1,6 @@
+-- 참여 사진 key 를 내용 해시(sha256/<hex>) 로 저장 -> 같은 사진을 참조하는 File 끼리 key 를 공유
+-- 중복 조회(key + 업로드 상태)는 일반 인덱스로 처리
+-- baseline 의 file_key 유니크 제약 (Hibernate 가 생성한 이름)
+ALTER TABLE file DROP CONSTRAINT UKmsojqy4d5ruriknrdmjhe8wwx;
+
+CREATE INDEX idx_file_file_key ON file (file_key);
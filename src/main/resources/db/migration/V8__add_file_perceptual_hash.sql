@@ -0,0 +1,2 @@
+-- 유사 사진 탐지용 64bit 지각 해시 (dHash, 업로드 후 계산 / 읽을 수 없는 형식이면 NULL)
+ALTER TABLE file ADD COLUMN perceptual_hash BIGINT;
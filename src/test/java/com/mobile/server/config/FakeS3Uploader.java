@@ -5,11 +5,17 @@ import com.mobile.server.util.exception.BusinessErrorCode;
 import com.mobile.server.util.exception.BusinessException;
 import com.mobile.server.util.file.S3Uploader;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Primary;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
@@ -26,8 +32,16 @@ public class FakeS3Uploader extends S3Uploader {
     private static final Set<String> ALLOWED_EXTENSIONS =
             Set.of("jpg", "jpeg", "png", "gif", "bmp", "tiff", "heic", "webp");
 
+    //업로드 지연 시간 (부하 테스트에서 느린 S3 를 흉내낼 때 사용)
+    @Value("${test.s3.latency:0ms}")
+    private Duration latency;
+
+    //uploadBytes(썸네일) 를 멈춰두는 게이트 (원본 업로드 후 처리 중인 상태를 재현할 때 사용)
+    private volatile CountDownLatch bytesUploadStarted;
+    private volatile CountDownLatch bytesUploadGate;
+
     public FakeS3Uploader() {
-        super(null);
+        super(null, null, null);
     }
 
     @Override
@@ -47,6 +61,7 @@ public class FakeS3Uploader extends S3Uploader {
     @Override
     public void uploadFile(String upLoadKey, MultipartFile file) {
         validateFile(file);
+        simulateLatency();
         try {
             fakeStorage.put(upLoadKey, file.getBytes());
         } catch (IOException e) {
@@ -54,6 +69,23 @@ public class FakeS3Uploader extends S3Uploader {
         }
     }
 
+    @Override
+    public void uploadFile(String upLoadKey, Path path, String contentType) {
+        simulateLatency();
+        try {
+            fakeStorage.put(upLoadKey, Files.readAllBytes(path));
+        } catch (IOException e) {
+            throw new BusinessException(BusinessErrorCode.FILE_UPLOAD_FAIL, e);
+        }
+    }
+
+    @Override
+    public void uploadBytes(String upLoadKey, byte[] bytes, String contentType) {
+        awaitBytesUploadGate();
+        simulateLatency();
+        fakeStorage.put(upLoadKey, bytes);
+    }
+
     @Override
     public void correctFile(String upLoadKey, MultipartFile file) {
         uploadFile(upLoadKey, file);
@@ -91,6 +123,32 @@ public class FakeS3Uploader extends S3Uploader {
         }
     }
 
+    private void simulateLatency() {
+        if (latency == null || latency.isZero()) {
+            return;
+        }
+        try {
+            Thread.sleep(latency.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(BusinessErrorCode.FILE_UPLOAD_FAIL, e);
+        }
+    }
+
+    private void awaitBytesUploadGate() {
+        CountDownLatch gate = bytesUploadGate;
+        if (gate == null) {
+            return;
+        }
+        bytesUploadStarted.countDown();
+        try {
+            gate.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(BusinessErrorCode.FILE_UPLOAD_FAIL, e);
+        }
+    }
+
     private void validateKey(String key) {
         if (!StringUtils.hasText(key)) {
             throw new BusinessException(BusinessErrorCode.FILE_NOT_FOUND);
@@ -119,4 +177,21 @@ public class FakeS3Uploader extends S3Uploader {
     public void clearStorage() {
         fakeStorage.clear();
     }
+
+    public void holdBytesUploads() {
+        bytesUploadStarted = new CountDownLatch(1);
+        bytesUploadGate = new CountDownLatch(1);
+    }
+
+    public boolean awaitHeldBytesUpload() throws InterruptedException {
+        return bytesUploadStarted.await(10, TimeUnit.SECONDS);
+    }
+
+    public void releaseBytesUploads() {
+        CountDownLatch gate = bytesUploadGate;
+        bytesUploadGate = null;
+        if (gate != null) {
+            gate.countDown();
+        }
+    }
 }
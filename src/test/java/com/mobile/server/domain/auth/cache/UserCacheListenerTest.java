@@ -0,0 +1,83 @@
+package com.mobile.server.domain.auth.cache;
+
+import com.mobile.server.domain.auth.entity.RoleType;
+import com.mobile.server.domain.auth.entity.User;
+import com.mobile.server.domain.auth.repository.UserRepository;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+//커밋/롤백 이후의 캐시 상태를 확인하므로 테스트 트랜잭션 없이 실행
+@SpringBootTest
+@ActiveProfiles("test")
+class UserCacheListenerTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserRoleCache userRoleCache;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("사용자 변경이 롤백되면 캐시된 권한은 그대로 유지된다")
+    void update_rolledBack_keepsCachedRole() {
+        // given
+        Long userId = saveStudent("42000001");
+        userRoleCache.findRole(userId);
+
+        // when - 권한 변경 후 flush(@PostUpdate) 까지 진행하고 롤백
+        transactionTemplate.executeWithoutResult(status -> {
+            updateRoleAndFlush(userId, RoleType.ADMIN);
+            status.setRollbackOnly();
+        });
+
+        // then
+        Assertions.assertThat(userRoleCache.findRole(userId)).contains(RoleType.STUDENT);
+    }
+
+    @Test
+    @DisplayName("사용자 변경이 커밋되면 캐시에서 제거되어 다음 조회 때 커밋된 권한을 읽는다")
+    void update_committed_evictsCachedRole() {
+        // given
+        Long userId = saveStudent("42000002");
+        userRoleCache.findRole(userId);
+
+        // when
+        transactionTemplate.executeWithoutResult(status -> updateRoleAndFlush(userId, RoleType.ADMIN));
+
+        // then
+        long missesBefore = userRoleCache.getMissCount();
+        Assertions.assertThat(userRoleCache.findRole(userId)).contains(RoleType.ADMIN);
+        Assertions.assertThat(userRoleCache.getMissCount()).isEqualTo(missesBefore + 1);
+    }
+
+    //User 에 권한 변경 메서드가 없으므로 SQL 로 바꾼 뒤 엔티티를 수정해 @PostUpdate 발생
+    private void updateRoleAndFlush(Long userId, RoleType role) {
+        jdbcTemplate.update("UPDATE users SET role = ? WHERE id = ?", role.name(), userId);
+        User user = userRepository.findById(userId).orElseThrow();
+        user.updatePoint(user.getCumulativePoint() + 1);
+        userRepository.flush();
+    }
+
+    private Long saveStudent(String studentId) {
+        return userRepository.save(User.builder().studentId(studentId).role(RoleType.STUDENT)
+                .nickname("listener" + studentId).password("password").cumulativePoint(0L).build()).getId();
+    }
+}
@@ -0,0 +1,69 @@
+package com.mobile.server.domain.auth.cache;
+
+import com.mobile.server.domain.auth.entity.RoleType;
+import com.mobile.server.domain.auth.entity.User;
+import com.mobile.server.domain.auth.repository.UserRepository;
+import java.time.Duration;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class UserRoleCacheTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    @DisplayName("max-size 를 넘으면 가장 오래 사용되지 않은 사용자를 제거하고 새 사용자를 캐시한다")
+    void findRole_full_evictsLeastRecentlyUsed() {
+        // given
+        UserRoleCache cache = new UserRoleCache(userRepository, 2, Duration.ofMinutes(10));
+        Long first = saveUser("41000001");
+        Long second = saveUser("41000002");
+        Long third = saveUser("41000003");
+        cache.findRole(first);
+        cache.findRole(second);
+        cache.findRole(first);
+
+        // when
+        cache.findRole(third);
+
+        // then (second 제거 -> first/third 는 hit, second 는 다시 miss)
+        Assertions.assertThat(cache.size()).isEqualTo(2);
+        long missesBefore = cache.getMissCount();
+        Assertions.assertThat(cache.findRole(first)).contains(RoleType.STUDENT);
+        Assertions.assertThat(cache.findRole(third)).contains(RoleType.STUDENT);
+        Assertions.assertThat(cache.getMissCount()).isEqualTo(missesBefore);
+        Assertions.assertThat(cache.findRole(second)).contains(RoleType.STUDENT);
+        Assertions.assertThat(cache.getMissCount()).isEqualTo(missesBefore + 1);
+    }
+
+    @Test
+    @DisplayName("ttl 이 지난 항목은 DB 에서 다시 조회한다")
+    void findRole_expired_reloads() throws Exception {
+        // given
+        UserRoleCache cache = new UserRoleCache(userRepository, 10, Duration.ofMillis(20));
+        Long userId = saveUser("41000004");
+        cache.findRole(userId);
+
+        // when
+        Thread.sleep(50);
+        cache.findRole(userId);
+
+        // then
+        Assertions.assertThat(cache.getHitCount()).isZero();
+        Assertions.assertThat(cache.getMissCount()).isEqualTo(2);
+    }
+
+    private Long saveUser(String studentId) {
+        return userRepository.save(User.builder().studentId(studentId).role(RoleType.STUDENT)
+                .nickname("cache" + studentId).password("password").cumulativePoint(0L).build()).getId();
+    }
+}
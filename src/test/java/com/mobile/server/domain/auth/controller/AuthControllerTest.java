@@ -3,6 +3,7 @@ package com.mobile.server.domain.auth.controller;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.cookie;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -11,7 +12,10 @@ import com.mobile.server.domain.auth.dto.SignInReq;
 import com.mobile.server.domain.auth.dto.SignUpReq;
 import com.mobile.server.domain.auth.entity.RoleType;
 import com.mobile.server.domain.auth.entity.User;
+import com.mobile.server.domain.auth.refresh.RefreshCookie;
 import com.mobile.server.domain.auth.repository.UserRepository;
+import jakarta.servlet.http.Cookie;
+import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -19,6 +23,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
@@ -217,6 +222,28 @@ class AuthControllerTest {
                 .andExpect(jsonPath("$.detail").value("아이디 또는 비밀번호가 올바르지 않습니다."));
     }
 
+    @Test
+    @DisplayName("성공: 설정된 BCrypt cost 와 다른 해시는 로그인 성공 시 재암호화된다")
+    void login_success_rehashWhenCostChanged() throws Exception {
+        // given
+        userRepository.updatePassword(existingUser.getId(), new BCryptPasswordEncoder(5).encode("password123"));
+        SignInReq signInReq = new SignInReq();
+        signInReq.setStudentId("20251110");
+        signInReq.setPassword("password123");
+
+        // when
+        mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(signInReq))
+                        .with(csrf()))
+                .andExpect(status().isOk());
+
+        // then
+        String rehashed = userRepository.findById(existingUser.getId()).orElseThrow().getPassword();
+        Assertions.assertThat(rehashed).startsWith("$2a$04$");
+        Assertions.assertThat(passwordEncoder.matches("password123", rehashed)).isTrue();
+    }
+
     @Test
     @DisplayName("성공: 로그아웃에 성공한다")
     void logout_success() throws Exception {
@@ -225,5 +252,90 @@ class AuthControllerTest {
                         .with(csrf()))
                 .andExpect(status().isOk());
     }
-}
 
+    private Cookie loginAndGetRefreshCookie() throws Exception {
+        SignInReq signInReq = new SignInReq();
+        signInReq.setStudentId("20251110");
+        signInReq.setPassword("password123");
+
+        return mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(signInReq))
+                        .with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(cookie().httpOnly(RefreshCookie.NAME, true))
+                .andReturn().getResponse().getCookie(RefreshCookie.NAME);
+    }
+
+    private Cookie refresh(Cookie refreshCookie) throws Exception {
+        return mockMvc.perform(post("/api/auth/refresh")
+                        .cookie(refreshCookie)
+                        .with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.accessToken").exists())
+                .andExpect(jsonPath("$.nickname").value("기존유저"))
+                .andReturn().getResponse().getCookie(RefreshCookie.NAME);
+    }
+
+    @Test
+    @DisplayName("성공: 리프레시 토큰으로 새 액세스 토큰과 회전된 리프레시 토큰을 발급받는다")
+    void refresh_success() throws Exception {
+        // given
+        Cookie issued = loginAndGetRefreshCookie();
+
+        // when
+        Cookie rotated = refresh(issued);
+
+        // then
+        Assertions.assertThat(rotated.getValue()).isNotEqualTo(issued.getValue());
+        refresh(rotated);
+    }
+
+    @Test
+    @DisplayName("실패: 이미 사용된 리프레시 토큰을 재사용하면 401 반환 후 세션 전체가 폐기된다")
+    void refresh_fail_reuseDetected() throws Exception {
+        // given
+        Cookie issued = loginAndGetRefreshCookie();
+        Cookie rotated = refresh(issued);
+
+        // when & then
+        mockMvc.perform(post("/api/auth/refresh")
+                        .cookie(issued)
+                        .with(csrf()))
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.detail").value("유효하지 않은 리프레시 토큰입니다. 다시 로그인해 주세요."));
+
+        mockMvc.perform(post("/api/auth/refresh")
+                        .cookie(rotated)
+                        .with(csrf()))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @DisplayName("실패: 리프레시 토큰 쿠키 없이 재발급을 요청하면 401 반환")
+    void refresh_fail_missingCookie() throws Exception {
+        mockMvc.perform(post("/api/auth/refresh")
+                        .with(csrf()))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @DisplayName("성공: 로그아웃하면 리프레시 토큰이 폐기된다")
+    void logout_revokesRefreshToken() throws Exception {
+        // given
+        Cookie issued = loginAndGetRefreshCookie();
+
+        // when
+        mockMvc.perform(post("/api/auth/logout")
+                        .cookie(issued)
+                        .with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(cookie().maxAge(RefreshCookie.NAME, 0));
+
+        // then
+        mockMvc.perform(post("/api/auth/refresh")
+                        .cookie(issued)
+                        .with(csrf()))
+                .andExpect(status().isUnauthorized());
+    }
+}
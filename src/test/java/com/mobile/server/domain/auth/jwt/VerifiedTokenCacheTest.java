@@ -0,0 +1,108 @@
+package com.mobile.server.domain.auth.jwt;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class VerifiedTokenCacheTest {
+
+    private static TokenClaims claimsOf(long userId, long expiresInMs) {
+        return new TokenClaims(userId, "2025" + userId, "STUDENT",
+                new Date(System.currentTimeMillis() + expiresInMs));
+    }
+
+    @Test
+    @DisplayName("같은 토큰은 두 번째 조회부터 검증 없이 캐시에서 반환된다")
+    void getOrVerify_hit() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(10, Duration.ofMinutes(15));
+        AtomicInteger verifyCount = new AtomicInteger();
+
+        for (int i = 0; i < 5; i++) {
+            Optional<TokenClaims> result = cache.getOrVerify("token", token -> {
+                verifyCount.incrementAndGet();
+                return Optional.of(claimsOf(1L, 60_000));
+            });
+            Assertions.assertThat(result).isPresent();
+        }
+
+        Assertions.assertThat(verifyCount.get()).isEqualTo(1);
+        Assertions.assertThat(cache.getHitCount()).isEqualTo(4);
+        Assertions.assertThat(cache.getMissCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("만료된 토큰과 검증 실패 토큰은 캐시에 저장되지 않는다")
+    void getOrVerify_expiredOrInvalid() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(10, Duration.ofMinutes(15));
+
+        cache.getOrVerify("expired", token -> Optional.of(claimsOf(1L, -1_000)));
+        cache.getOrVerify("invalid", token -> Optional.empty());
+
+        Assertions.assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 가장 오래 사용되지 않은 토큰부터 제거된다")
+    void getOrVerify_lruEviction() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(2, Duration.ofMinutes(15));
+        AtomicInteger verifyCount = new AtomicInteger();
+
+        cache.getOrVerify("a", token -> Optional.of(claimsOf(1L, 60_000)));
+        cache.getOrVerify("b", token -> Optional.of(claimsOf(2L, 60_000)));
+        cache.getOrVerify("a", token -> Optional.of(claimsOf(1L, 60_000)));
+        cache.getOrVerify("c", token -> Optional.of(claimsOf(3L, 60_000)));
+        cache.getOrVerify("b", token -> {
+            verifyCount.incrementAndGet();
+            return Optional.of(claimsOf(2L, 60_000));
+        });
+
+        Assertions.assertThat(verifyCount.get()).isEqualTo(1);
+        Assertions.assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 조회해도 크기 제한과 hit/miss 집계가 유지된다")
+    void getOrVerify_concurrentStress() throws Exception {
+        int maxSize = 100;
+        int threadCount = 32;
+        int opsPerThread = 5_000;
+        VerifiedTokenCache cache = new VerifiedTokenCache(maxSize, Duration.ofMinutes(15));
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch start = new CountDownLatch(1);
+
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threadCount; t++) {
+            int seed = t;
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < opsPerThread; i++) {
+                    long userId = (seed * 31L + i) % 300;
+                    Optional<TokenClaims> result = cache.getOrVerify("token-" + userId,
+                            token -> Optional.of(claimsOf(userId, 60_000)));
+                    Assertions.assertThat(result).get().extracting(TokenClaims::userId).isEqualTo(userId);
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        Assertions.assertThat(cache.size()).isLessThanOrEqualTo(maxSize);
+        Assertions.assertThat(cache.getHitCount() + cache.getMissCount())
+                .isEqualTo((long) threadCount * opsPerThread);
+    }
+}
@@ -0,0 +1,134 @@
+package com.mobile.server.domain.auth.refresh;
+
+import com.mobile.server.domain.auth.entity.RoleType;
+import com.mobile.server.domain.auth.entity.User;
+import com.mobile.server.domain.auth.jwt.JWTUtil;
+import com.mobile.server.domain.auth.repository.UserRepository;
+import com.mobile.server.util.exception.BusinessErrorCode;
+import com.mobile.server.util.exception.BusinessException;
+import java.time.LocalDateTime;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+//다중 인스턴스용 JPA 저장소 (app.auth.refresh.store=jpa) - 저장소 메서드마다 커밋되므로 테스트 트랜잭션 없이 실행
+@SpringBootTest(properties = "app.auth.refresh.store=jpa")
+@ActiveProfiles("test")
+class JpaRefreshTokenRepositoryTest {
+
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private RefreshTokenJpaRepository refreshTokenJpaRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JWTUtil jwtUtil;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder().studentId("43000001").role(RoleType.STUDENT)
+                .nickname("refresh").password("password").cumulativePoint(0L).build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        refreshTokenJpaRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("store=jpa 이면 JPA 저장소가 사용된다")
+    void store_jpa_usesJpaRepository() {
+        Assertions.assertThat(refreshTokenRepository).isInstanceOf(JpaRefreshTokenRepository.class);
+    }
+
+    @Test
+    @DisplayName("현재 rotateId 로만 회전되고, 이전 rotateId 로는 교체되지 않는다 (compare-and-set)")
+    void rotate_compareAndSet() {
+        // given
+        RefreshToken token = RefreshToken.issue(user.getId(), LocalDateTime.now().plusDays(1));
+        refreshTokenRepository.save(token);
+        String nextRotateId = RefreshToken.newRotateId();
+
+        // when
+        boolean rotated = refreshTokenRepository.rotate(token.getFamilyId(), token.getRotateId(), nextRotateId,
+                LocalDateTime.now().plusDays(2));
+        boolean staleRotated = refreshTokenRepository.rotate(token.getFamilyId(), token.getRotateId(),
+                RefreshToken.newRotateId(), LocalDateTime.now().plusDays(3));
+
+        // then
+        Assertions.assertThat(rotated).isTrue();
+        Assertions.assertThat(staleRotated).isFalse();
+        Assertions.assertThat(refreshTokenRepository.findByFamilyId(token.getFamilyId()).orElseThrow()
+                .isCurrent(nextRotateId)).isTrue();
+    }
+
+    @Test
+    @DisplayName("RefreshToken 회전 시 새 rotateId 가 저장되고 같은 세션(family)이 유지된다")
+    void serviceRotate_storesNextRotateId() {
+        // given
+        String refreshToken = refreshTokenService.issue(user);
+
+        // when
+        IssuedTokens issued = refreshTokenService.rotate(refreshToken);
+
+        // then
+        var previous = jwtUtil.parseRefreshClaims(refreshToken);
+        var next = jwtUtil.parseRefreshClaims(issued.refreshToken());
+        Assertions.assertThat(next.familyId()).isEqualTo(previous.familyId());
+        Assertions.assertThat(next.rotateId()).isNotEqualTo(previous.rotateId());
+        Assertions.assertThat(refreshTokenRepository.findByFamilyId(next.familyId()).orElseThrow()
+                .isCurrent(next.rotateId())).isTrue();
+    }
+
+    @Test
+    @DisplayName("이미 회전된 RefreshToken 을 다시 사용하면 세션(family) 전체가 폐기된다")
+    void serviceRotate_reuse_revokesFamily() {
+        // given
+        String refreshToken = refreshTokenService.issue(user);
+        IssuedTokens issued = refreshTokenService.rotate(refreshToken);
+
+        // when
+        Assertions.assertThatThrownBy(() -> refreshTokenService.rotate(refreshToken))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(BusinessErrorCode.INVALID_REFRESH_TOKEN);
+
+        // then - 정상 회전으로 받은 토큰도 사용할 수 없음
+        String familyId = jwtUtil.parseRefreshClaims(refreshToken).familyId();
+        Assertions.assertThat(refreshTokenRepository.findByFamilyId(familyId)).isEmpty();
+        Assertions.assertThatThrownBy(() -> refreshTokenService.rotate(issued.refreshToken()))
+                .isInstanceOf(BusinessException.class);
+    }
+
+    @Test
+    @DisplayName("만료 정리 스케줄러는 만료된 세션만 삭제한다")
+    void sweepExpired_deletesOnlyExpired() {
+        // given
+        RefreshToken expired = RefreshToken.issue(user.getId(), LocalDateTime.now().minusMinutes(1));
+        RefreshToken valid = RefreshToken.issue(user.getId(), LocalDateTime.now().plusDays(1));
+        refreshTokenRepository.save(expired);
+        refreshTokenRepository.save(valid);
+
+        // when
+        refreshTokenService.sweepExpired();
+
+        // then
+        Assertions.assertThat(refreshTokenRepository.findByFamilyId(expired.getFamilyId())).isEmpty();
+        Assertions.assertThat(refreshTokenRepository.findByFamilyId(valid.getFamilyId())).isPresent();
+    }
+}
@@ -5,6 +5,10 @@ import com.mobile.server.domain.auth.entity.RoleType;
 import com.mobile.server.domain.auth.entity.User;
 import com.mobile.server.domain.auth.jwt.CustomUserDetails;
 import com.mobile.server.domain.auth.repository.UserRepository;
+import com.mobile.server.domain.file.constant.UploadStatus;
+import com.mobile.server.domain.file.domain.File;
+import com.mobile.server.domain.file.dto.FileDetailDto;
+import com.mobile.server.domain.file.respository.FileRepository;
 import com.mobile.server.domain.mission.domain.Mission;
 import com.mobile.server.domain.mission.e.MissionStatus;
 import com.mobile.server.domain.mission.e.MissionType;
@@ -12,6 +16,10 @@ import com.mobile.server.domain.mission.repository.MissionRepository;
 import com.mobile.server.domain.missionParticipation.domain.MissionParticipation;
 import com.mobile.server.domain.missionParticipation.eum.MissionParticipationStatus;
 import com.mobile.server.domain.missionParticipation.repository.MissionParticipationRepository;
+import com.mobile.server.util.file.S3Uploader;
+import com.mobile.server.util.file.UploadSpool;
+import com.mobile.server.util.pagination.CursorPage;
+import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -24,11 +32,16 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.security.MessageDigest;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
 
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -53,6 +66,12 @@ class MissionControllerTest {
     @Autowired
     private FakeS3Uploader fakeS3Uploader;
 
+    @Autowired
+    private FileRepository fileRepository;
+
+    @Autowired
+    private UploadSpool uploadSpool;
+
     private User testUser;
     private CustomUserDetails userDetails;
 
@@ -452,6 +471,92 @@ class MissionControllerTest {
                 .andExpect(jsonPath("$.submittedAt").exists());
     }
 
+    @Test
+    @DisplayName("미션 제출 시 사진은 스풀에 저장되고 S3 업로드는 커밋 이후로 미뤄진다")
+    void submitMission_SpoolsPhotoUntilCommit() throws Exception {
+        // given
+        Mission savedMission = missionRepository.save(Mission.builder()
+                .title("텀블러 사용하기")
+                .content("개인 텀블러를 사용하여 일회용 컵 사용을 줄여주세요.")
+                .missionPoint(100L)
+                .missionType(MissionType.SCHEDULED)
+                .startDate(LocalDate.now().minusDays(1))
+                .deadLine(LocalDate.now().plusDays(5))
+                .iconUrl("https://mobile-reple.s3.ap-northeast-2.amazonaws.com/icons/de7b9a05-1d2f-4588-8835-db6fd8593f3c.png")
+                .bannerUrl("https://mobile-reple.s3.ap-northeast-2.amazonaws.com/banners/011e06d1-3d95-4a66-a4b7-9a2ffcf14280.png")
+                .status(MissionStatus.OPEN)
+                .category("TUMBLER")
+                .build());
+
+        MockMultipartFile photo = new MockMultipartFile(
+                "photo",
+                "test-image.jpg",
+                "image/jpeg",
+                "test image content".getBytes()
+        );
+
+        // when
+        mockMvc.perform(multipart("/api/missions/" + savedMission.getId() + "/submit")
+                        .file(photo)
+                        .with(user(userDetails)))
+                .andExpect(status().isOk());
+
+        // then - 테스트 트랜잭션은 커밋되지 않으므로 업로드 전 상태가 유지된다
+        File file = fileRepository.findAll().stream()
+                .filter(f -> f.getParticipation() != null)
+                .findFirst()
+                .orElseThrow();
+        Assertions.assertThat(file.getUploadStatus()).isEqualTo(UploadStatus.PENDING);
+        Assertions.assertThat(uploadSpool.exists(file.getFileKey())).isTrue();
+        Assertions.assertThat(fakeS3Uploader.exists(file.getFileKey())).isFalse();
+        uploadSpool.delete(file.getFileKey());
+    }
+
+    @Test
+    @DisplayName("이미 저장된 사진과 같은 내용을 제출하면 내용 해시 key 를 공유하고 업로드하지 않는다")
+    void submitMission_DuplicatePhoto_SkipsUpload() throws Exception {
+        // given
+        Mission savedMission = missionRepository.save(Mission.builder()
+                .title("텀블러 사용하기")
+                .content("개인 텀블러를 사용하여 일회용 컵 사용을 줄여주세요.")
+                .missionPoint(100L)
+                .missionType(MissionType.SCHEDULED)
+                .startDate(LocalDate.now().minusDays(1))
+                .deadLine(LocalDate.now().plusDays(5))
+                .iconUrl("https://mobile-reple.s3.ap-northeast-2.amazonaws.com/icons/de7b9a05-1d2f-4588-8835-db6fd8593f3c.png")
+                .bannerUrl("https://mobile-reple.s3.ap-northeast-2.amazonaws.com/banners/011e06d1-3d95-4a66-a4b7-9a2ffcf14280.png")
+                .status(MissionStatus.OPEN)
+                .category("TUMBLER")
+                .build());
+
+        byte[] content = "same image content".getBytes();
+        String contentKey = S3Uploader.contentKeyOf(
+                HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content)));
+        fileRepository.save(File.ofParticipation(null, FileDetailDto.builder()
+                .originalFileName("first.jpg")
+                .key(contentKey)
+                .contentType("image/jpeg")
+                .fileSize(content.length)
+                .build()));
+
+        MockMultipartFile photo = new MockMultipartFile("photo", "retry.jpg", "image/jpeg", content);
+
+        // when
+        mockMvc.perform(multipart("/api/missions/" + savedMission.getId() + "/submit")
+                        .file(photo)
+                        .with(user(userDetails)))
+                .andExpect(status().isOk());
+
+        // then
+        List<File> references = fileRepository.findAll().stream()
+                .filter(f -> f.getFileKey().equals(contentKey))
+                .toList();
+        Assertions.assertThat(references).hasSize(2);
+        Assertions.assertThat(references).allMatch(f -> f.getUploadStatus() == UploadStatus.UPLOADED);
+        Assertions.assertThat(uploadSpool.exists(contentKey)).isFalse();
+        Assertions.assertThat(fakeS3Uploader.exists(contentKey)).isFalse();
+    }
+
     @Test
     @DisplayName("미션 제출 실패 - 이미 제출한 미션")
     void submitMission_AlreadySubmitted_Fail() throws Exception {
@@ -970,6 +1075,52 @@ class MissionControllerTest {
                 .andExpect(jsonPath("$[2].participationStatus").value("APPROVED"));
     }
 
+    @Test
+    @DisplayName("과거 미션 참여 이력 조회 - 커서 페이지네이션")
+    void getParticipationHistory_CursorPagination() throws Exception {
+        // given
+        List<Long> participationIds = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            Mission savedMission = missionRepository.save(Mission.builder()
+                    .title("미션" + i)
+                    .content("미션" + i)
+                    .missionPoint(100L)
+                    .missionType(MissionType.SCHEDULED)
+                    .startDate(LocalDate.now().minusDays(10))
+                    .deadLine(LocalDate.now().minusDays(5))
+                    .iconUrl("https://mobile-reple.s3.ap-northeast-2.amazonaws.com/icons/de7b9a05-1d2f-4588-8835-db6fd8593f3c.png")
+                    .bannerUrl("https://mobile-reple.s3.ap-northeast-2.amazonaws.com/banners/011e06d1-3d95-4a66-a4b7-9a2ffcf14280.png")
+                    .status(MissionStatus.CLOSED)
+                    .category("TUMBLER")
+                    .build());
+            participationIds.add(missionParticipationRepository.save(MissionParticipation.builder()
+                    .mission(savedMission)
+                    .user(testUser)
+                    .participationStatus(MissionParticipationStatus.APPROVED)
+                    .build()).getId());
+        }
+
+        // when & then - 첫 페이지: 최신 2건 + 다음 커서
+        mockMvc.perform(get("/api/missions/history")
+                        .param("size", "2")
+                        .with(user(userDetails)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].title").value("미션3"))
+                .andExpect(jsonPath("$[1].title").value("미션2"))
+                .andExpect(header().string(CursorPage.NEXT_CURSOR_HEADER, String.valueOf(participationIds.get(1))));
+
+        // 다음 페이지: 남은 1건, 커서 없음
+        mockMvc.perform(get("/api/missions/history")
+                        .param("size", "2")
+                        .param("cursor", String.valueOf(participationIds.get(1)))
+                        .with(user(userDetails)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].title").value("미션1"))
+                .andExpect(header().doesNotExist(CursorPage.NEXT_CURSOR_HEADER));
+    }
+
     @Test
     @DisplayName("과거 미션 참여 이력 조회 실패 - STUDENT 권한 없음")
     void getParticipationHistory_Forbidden() throws Exception {
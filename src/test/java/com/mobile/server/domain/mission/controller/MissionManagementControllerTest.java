@@ -1,6 +1,7 @@
 package com.mobile.server.domain.mission.controller;
 
 import static com.mobile.server.domain.file.domain.File.ofParticipation;
+import static com.mobile.server.domain.file.domain.File.ofPendingParticipation;
 import static com.mobile.server.domain.mission.e.MissionStatus.CLOSED;
 import static com.mobile.server.domain.mission.e.MissionStatus.OPEN;
 import static com.mobile.server.domain.mission.e.MissionType.EVENT;
@@ -8,12 +9,15 @@ import static com.mobile.server.domain.mission.e.MissionType.SCHEDULED;
 import static com.mobile.server.domain.missionParticipation.domain.MissionParticipation.builder;
 import static com.mobile.server.domain.missionParticipation.eum.MissionParticipationStatus.APPROVED;
 import static com.mobile.server.domain.missionParticipation.eum.MissionParticipationStatus.PENDING;
+import static com.mobile.server.domain.missionParticipation.eum.MissionParticipationStatus.REJECTED;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -25,12 +29,19 @@ import com.mobile.server.domain.auth.repository.UserRepository;
 import com.mobile.server.domain.file.respository.FileRepository;
 import com.mobile.server.domain.mission.constant.MissionCategory;
 import com.mobile.server.domain.mission.domain.Mission;
+import com.mobile.server.domain.mission.dto.BulkReviewRequestDto;
 import com.mobile.server.domain.mission.dto.RegularMissionCreationDto;
 import com.mobile.server.domain.mission.repository.MissionRepository;
 import com.mobile.server.domain.missionParticipation.eum.MissionParticipationStatus;
+import com.mobile.server.domain.missionParticipation.eum.ReviewAction;
 import com.mobile.server.domain.missionParticipation.repository.MissionParticipationRepository;
 import com.mobile.server.domain.regularMission.RegularMissionRepository;
+import com.mobile.server.util.file.PerceptualHashIndex;
+import com.mobile.server.util.pagination.CursorPage;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -74,6 +85,9 @@ class MissionManagementControllerTest {
     @Autowired
     private MissionParticipationRepository missionParticipationRepository;
 
+    @Autowired
+    private PerceptualHashIndex perceptualHashIndex;
+
     private User admin;
     private User user1;
 
@@ -402,6 +416,52 @@ class MissionManagementControllerTest {
                 });
     }
 
+    @Test
+    @DisplayName("성공: 종료 미션 조회 시 승인 대기 참여가 남은 미션은 제외되고 커서로 다음 페이지를 조회한다.")
+    void getTerminationMission_excludePendingAndCursor_success() throws Exception {
+        // given - 종료 미션 3개 + 승인 대기가 남은 마감 미션 1개
+        for (int i = 1; i <= 4; i++) {
+            Mission closedMission = missionRepository.save(Mission.builder()
+                    .title("마감 " + i)
+                    .content("내용")
+                    .missionPoint(10L)
+                    .missionType(EVENT)
+                    .startDate(LocalDate.now().minusDays(5))
+                    .deadLine(LocalDate.now().minusDays(1))
+                    .iconUrl("https://s3/icon.png")
+                    .bannerUrl("https://s3/banner.png")
+                    .status(CLOSED)
+                    .category("ETC")
+                    .build());
+            missionParticipationRepository.save(builder()
+                    .mission(closedMission)
+                    .user(user1)
+                    .participationStatus(i == 4 ? PENDING : APPROVED)
+                    .build());
+        }
+
+        // when & then - 첫 페이지
+        String nextCursor = mockMvc.perform(get("/api/admin/missions/termination")
+                        .param("size", "2")
+                        .with(user(new CustomUserDetails(admin))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].title").value("마감 3"))
+                .andExpect(jsonPath("$[1].title").value("마감 2"))
+                .andExpect(header().exists(CursorPage.NEXT_CURSOR_HEADER))
+                .andReturn().getResponse().getHeader(CursorPage.NEXT_CURSOR_HEADER);
+
+        // 다음 페이지
+        mockMvc.perform(get("/api/admin/missions/termination")
+                        .param("size", "2")
+                        .param("cursor", nextCursor)
+                        .with(user(new CustomUserDetails(admin))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].title").value("마감 1"))
+                .andExpect(header().doesNotExist(CursorPage.NEXT_CURSOR_HEADER));
+    }
+
 
     @Test
     @DisplayName("성공: 관리자 계정이 승인 대기 미션 조회에 성공한다.")
@@ -452,6 +512,48 @@ class MissionManagementControllerTest {
                 .andExpect(status().isForbidden());
     }
 
+    @Test
+    @DisplayName("성공: 승인 대기 참여가 여러 건인 미션은 한 번만 조회되고 승인 대기 건수가 함께 반환된다.")
+    void getPendingMission_success_uniqueWithPendingCount() throws Exception {
+        // given
+        Mission openMission = missionRepository.save(
+                Mission.builder()
+                        .title("텀블러 사용 챌린지")
+                        .content("일회용 컵 대신 텀블러 사용 인증샷 업로드")
+                        .missionPoint(10L)
+                        .missionType(EVENT)
+                        .startDate(LocalDate.now().minusDays(2))
+                        .deadLine(LocalDate.now().plusDays(2))
+                        .iconUrl("https://s3/icon.png")
+                        .bannerUrl("https://s3/banner.png")
+                        .status(OPEN)
+                        .category("publicTransportation")
+                        .build()
+        );
+        for (int i = 0; i < 3; i++) {
+            User student = userRepository.save(User.builder()
+                    .studentId("3000000" + i)
+                    .role(RoleType.STUDENT)
+                    .nickname("student" + i)
+                    .password("password")
+                    .cumulativePoint(0L)
+                    .build());
+            missionParticipationRepository.save(builder()
+                    .mission(openMission)
+                    .user(student)
+                    .participationStatus(i < 2 ? PENDING : APPROVED)
+                    .build());
+        }
+
+        // when & then
+        mockMvc.perform(get("/api/admin/missions/pending")
+                        .with(user(new CustomUserDetails(admin)))
+                        .with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].pendingCount").value(2));
+    }
+
     @Test
     @DisplayName("성공: 관리자 계정이 카테고리 이름 리스트 조회에 성공한다.")
     void getCategoryNameList_success() throws Exception {
@@ -529,6 +631,151 @@ class MissionManagementControllerTest {
 
     }
 
+    @Test
+    @DisplayName("성공: 승인 요청 목록을 오래된 제출 순으로 페이지 조회하고 다음 커서를 헤더로 반환한다.")
+    void getApprovalRequestList_cursor_success() throws Exception {
+        // given
+        Mission mission = missionRepository.save(createBulkReviewMission());
+        List<Long> participationIds = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            User requester = userRepository.save(User.builder().studentId("3000000" + i).role(RoleType.STUDENT)
+                    .nickname("requester" + i).password("password").cumulativePoint(0L).build());
+            var participation = missionParticipationRepository.save(
+                    builder().mission(mission).user(requester).participationStatus(PENDING).build());
+            MockMultipartFile photo = new MockMultipartFile("testImage", "test.png", "image/png", "fake".getBytes());
+            var file = fileRepository.save(ofParticipation(participation, s3Uploader.makeMetaData(photo)));
+            s3Uploader.uploadFile(file.getFileKey(), photo);
+            participationIds.add(participation.getId());
+        }
+
+        // when & then
+        mockMvc.perform(get("/api/admin/missions/request/{missionId}", mission.getId())
+                        .param("size", "2")
+                        .with(user(new CustomUserDetails(admin))))
+                .andExpect(status().isOk())
+                .andExpect(header().string(CursorPage.NEXT_CURSOR_HEADER, String.valueOf(participationIds.get(1))))
+                .andExpect(jsonPath("$.requesterList.length()").value(2))
+                .andExpect(jsonPath("$.requesterList[0].participationId").value(participationIds.get(0)))
+                .andExpect(jsonPath("$.requesterList[0].nickName").value("requester0"))
+                .andExpect(jsonPath("$.requesterList[1].participationThumbnail").exists())
+                .andExpect(jsonPath("$.requesterList[1].participationPhoto").doesNotExist());
+
+        mockMvc.perform(get("/api/admin/missions/request/{missionId}", mission.getId())
+                        .param("size", "2")
+                        .param("cursor", String.valueOf(participationIds.get(1)))
+                        .with(user(new CustomUserDetails(admin))))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(CursorPage.NEXT_CURSOR_HEADER))
+                .andExpect(jsonPath("$.requesterList.length()").value(1))
+                .andExpect(jsonPath("$.requesterList[0].participationId").value(participationIds.get(2)));
+    }
+
+    @Test
+    @DisplayName("성공: S3 업로드가 끝나지 않은 제출 사진은 승인 요청 목록에서 URL 을 만들지 않는다.")
+    void getApprovalRequestList_pendingUpload_noPhotoUrl() throws Exception {
+        // given
+        Mission mission = missionRepository.save(createBulkReviewMission());
+        User requester = userRepository.save(User.builder().studentId("30000099").role(RoleType.STUDENT)
+                .nickname("uploading").password("password").cumulativePoint(0L).build());
+        var participation = missionParticipationRepository.save(
+                builder().mission(mission).user(requester).participationStatus(PENDING).build());
+        MockMultipartFile photo = new MockMultipartFile("testImage", "test.png", "image/png", "fake".getBytes());
+        fileRepository.save(ofPendingParticipation(participation, s3Uploader.makeMetaData(photo)));
+
+        // when & then
+        mockMvc.perform(get("/api/admin/missions/request/{missionId}", mission.getId())
+                        .with(user(new CustomUserDetails(admin))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.requesterList[0].nickName").value("uploading"))
+                .andExpect(jsonPath("$.requesterList[0].participationThumbnail").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("성공: 관리자 계정이 승인 요청 사진 원본 URL 을 조회한다.")
+    void getParticipationPhoto_success() throws Exception {
+        // given
+        Mission mission = missionRepository.save(createBulkReviewMission());
+        var participation = missionParticipationRepository.save(
+                builder().mission(mission).user(user1).participationStatus(PENDING).build());
+        MockMultipartFile photo = new MockMultipartFile("testImage", "test.png", "image/png", "fake".getBytes());
+        var file = fileRepository.save(ofParticipation(participation, s3Uploader.makeMetaData(photo)));
+        s3Uploader.uploadFile(file.getFileKey(), photo);
+
+        // when & then
+        mockMvc.perform(get("/api/admin/missions/request/{participationId}/photo", participation.getId())
+                        .with(user(new CustomUserDetails(admin))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.participationId").value(participation.getId()))
+                .andExpect(jsonPath("$.participationPhoto").value("https://fake-s3.local/" + file.getFileKey()));
+    }
+
+    @Test
+    @DisplayName("성공: S3 업로드가 끝나지 않은 사진은 원본 URL 을 만들지 않는다.")
+    void getParticipationPhoto_pendingUpload_noPhotoUrl() throws Exception {
+        // given
+        Mission mission = missionRepository.save(createBulkReviewMission());
+        var participation = missionParticipationRepository.save(
+                builder().mission(mission).user(user1).participationStatus(PENDING).build());
+        MockMultipartFile photo = new MockMultipartFile("testImage", "test.png", "image/png", "fake".getBytes());
+        fileRepository.save(ofPendingParticipation(participation, s3Uploader.makeMetaData(photo)));
+
+        // when & then
+        mockMvc.perform(get("/api/admin/missions/request/{participationId}/photo", participation.getId())
+                        .with(user(new CustomUserDetails(admin))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.participationPhoto").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("실패: 존재하지 않는 참여의 사진 원본을 조회하면 404 Not Found 반환")
+    void getParticipationPhoto_fail_notFound() throws Exception {
+        mockMvc.perform(get("/api/admin/missions/request/{participationId}/photo", Long.MAX_VALUE)
+                        .with(user(new CustomUserDetails(admin))))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("실패: 일반 사용자가 승인 요청 사진 원본 조회를 시도하면 403 Forbidden 반환")
+    void getParticipationPhoto_fail_forbidden() throws Exception {
+        mockMvc.perform(get("/api/admin/missions/request/{participationId}/photo", 1L)
+                        .with(user(new CustomUserDetails(user1))))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("성공: 승인 요청 목록에 지각 해시가 가까운 다른 참여를 유사 사진으로 표시")
+    void getApprovalRequestList_flagsSimilarPhotos() throws Exception {
+        // given
+        Mission mission = missionRepository.save(createBulkReviewMission());
+        long hash = ThreadLocalRandom.current().nextLong();
+        List<Long> participationIds = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            User requester = userRepository.save(User.builder().studentId("3100000" + i).role(RoleType.STUDENT)
+                    .nickname("similar" + i).password("password").cumulativePoint(0L).build());
+            var participation = missionParticipationRepository.save(
+                    builder().mission(mission).user(requester).participationStatus(PENDING).build());
+            MockMultipartFile photo = new MockMultipartFile("testImage", "test.png", "image/png", "fake".getBytes());
+            var file = fileRepository.save(ofParticipation(participation, s3Uploader.makeMetaData(photo)));
+            s3Uploader.uploadFile(file.getFileKey(), photo);
+            participationIds.add(participation.getId());
+
+            //0, 1 번은 해밍 거리 3 (유사), 2 번은 해시 없음
+            if (i < 2) {
+                long photoHash = i == 0 ? hash : hash ^ 0b111L;
+                fileRepository.updatePerceptualHash(file.getFileKey(), photoHash);
+                perceptualHashIndex.add(participation.getId(), photoHash);
+            }
+        }
+
+        // when & then
+        mockMvc.perform(get("/api/admin/missions/request/{missionId}", mission.getId())
+                        .with(user(new CustomUserDetails(admin))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.requesterList[0].similarParticipationIds[0]").value(participationIds.get(1)))
+                .andExpect(jsonPath("$.requesterList[1].similarParticipationIds[0]").value(participationIds.get(0)))
+                .andExpect(jsonPath("$.requesterList[2].similarParticipationIds.length()").value(0));
+    }
+
     @Test
     @DisplayName("실패: 일반 사용자가 승인 요청 목록 조회를 시도하면 403 Forbidden 반환")
     void getApprovalRequestList_fail_forbidden() throws Exception {
@@ -718,6 +965,125 @@ class MissionManagementControllerTest {
                 .andExpect(status().isForbidden());
     }
 
+    @Test
+    @DisplayName("성공: 참여 id 목록으로 일괄 승인 시 건별 결과를 반환하고 승인된 건만 포인트가 적립된다.")
+    void requestMissionParticipationBulkReview_approveByIds_success() throws Exception {
+        // given
+        Mission mission = missionRepository.save(createBulkReviewMission());
+        User user2 = userRepository.save(User.builder().studentId("22332277").role(RoleType.STUDENT)
+                .nickname("user2").password("password").cumulativePoint(0L).build());
+        User user3 = userRepository.save(User.builder().studentId("22332288").role(RoleType.STUDENT)
+                .nickname("user3").password("password").cumulativePoint(0L).build());
+        var pending1 = missionParticipationRepository.save(
+                builder().mission(mission).user(user1).participationStatus(PENDING).build());
+        var pending2 = missionParticipationRepository.save(
+                builder().mission(mission).user(user2).participationStatus(PENDING).build());
+        var rejected = missionParticipationRepository.save(
+                builder().mission(mission).user(user3).participationStatus(REJECTED).build());
+        BulkReviewRequestDto request = new BulkReviewRequestDto(ReviewAction.APPROVE,
+                List.of(pending1.getId(), pending2.getId(), rejected.getId(), 9999L, pending1.getId()), null);
+
+        // when & then
+        mockMvc.perform(patch("/api/admin/missions/request/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request))
+                        .with(user(new CustomUserDetails(admin)))
+                        .with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.requestedCount").value(4))
+                .andExpect(jsonPath("$.processedCount").value(2))
+                .andExpect(jsonPath("$.results[0].participationId").value(pending1.getId()))
+                .andExpect(jsonPath("$.results[0].result").value("APPROVED"))
+                .andExpect(jsonPath("$.results[1].result").value("APPROVED"))
+                .andExpect(jsonPath("$.results[2].result").value("ALREADY_PROCESSED"))
+                .andExpect(jsonPath("$.results[3].result").value("NOT_FOUND"));
+
+        Assertions.assertThat(missionParticipationRepository.findById(pending1.getId()).orElseThrow()
+                .getParticipationStatus()).isEqualTo(APPROVED);
+        Assertions.assertThat(missionParticipationRepository.findById(rejected.getId()).orElseThrow()
+                .getParticipationStatus()).isEqualTo(REJECTED);
+        Assertions.assertThat(userRepository.findById(user1.getId()).orElseThrow().getCumulativePoint())
+                .isEqualTo(15L);
+        Assertions.assertThat(userRepository.findById(user3.getId()).orElseThrow().getCumulativePoint())
+                .isEqualTo(0L);
+    }
+
+    @Test
+    @DisplayName("성공: 미션 id 로 일괄 반려 시 해당 미션의 승인 대기 참여만 모두 반려된다.")
+    void requestMissionParticipationBulkReview_rejectByMission_success() throws Exception {
+        // given
+        Mission mission = missionRepository.save(createBulkReviewMission());
+        User user2 = userRepository.save(User.builder().studentId("22332277").role(RoleType.STUDENT)
+                .nickname("user2").password("password").cumulativePoint(0L).build());
+        var pending = missionParticipationRepository.save(
+                builder().mission(mission).user(user1).participationStatus(PENDING).build());
+        var approved = missionParticipationRepository.save(
+                builder().mission(mission).user(user2).participationStatus(APPROVED).build());
+        BulkReviewRequestDto request = new BulkReviewRequestDto(ReviewAction.REJECT, null, mission.getId());
+
+        // when & then
+        mockMvc.perform(patch("/api/admin/missions/request/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request))
+                        .with(user(new CustomUserDetails(admin)))
+                        .with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.requestedCount").value(1))
+                .andExpect(jsonPath("$.hasMore").value(false))
+                .andExpect(jsonPath("$.results[0].participationId").value(pending.getId()))
+                .andExpect(jsonPath("$.results[0].result").value("REJECTED"));
+
+        Assertions.assertThat(missionParticipationRepository.findById(pending.getId()).orElseThrow()
+                .getParticipationStatus()).isEqualTo(REJECTED);
+        Assertions.assertThat(missionParticipationRepository.findById(approved.getId()).orElseThrow()
+                .getParticipationStatus()).isEqualTo(APPROVED);
+    }
+
+    @Test
+    @DisplayName("실패: 참여 id 목록과 미션 id 를 함께 지정하면 400 반환")
+    void requestMissionParticipationBulkReview_fail_bothTargets() throws Exception {
+        // given
+        BulkReviewRequestDto request = new BulkReviewRequestDto(ReviewAction.APPROVE, List.of(1L), 1L);
+
+        // when & then
+        mockMvc.perform(patch("/api/admin/missions/request/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request))
+                        .with(user(new CustomUserDetails(admin)))
+                        .with(csrf()))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("실패: 일반 사용자가 일괄 승인을 시도하면 403 Forbidden 반환")
+    void requestMissionParticipationBulkReview_fail_forbidden() throws Exception {
+        // given
+        BulkReviewRequestDto request = new BulkReviewRequestDto(ReviewAction.APPROVE, List.of(1L), null);
+
+        // when & then
+        mockMvc.perform(patch("/api/admin/missions/request/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request))
+                        .with(user(new CustomUserDetails(user1)))
+                        .with(csrf()))
+                .andExpect(status().isForbidden());
+    }
+
+    private Mission createBulkReviewMission() {
+        return Mission.builder()
+                .title("텀블러 사용 챌린지")
+                .content("텀블러 사용 인증샷 업로드")
+                .missionPoint(15L)
+                .missionType(EVENT)
+                .startDate(LocalDate.now().minusDays(2))
+                .deadLine(LocalDate.now().plusDays(2))
+                .iconUrl("https://s3/icon.png")
+                .bannerUrl("https://s3/banner.png")
+                .status(OPEN)
+                .category("publicTransportation")
+                .build();
+    }
+
     @Test
     @DisplayName("성공: 관리자 계정이 미션 조기 마감 요청에 성공한다.")
     void requestMissionEarlyClose_success() throws Exception {
@@ -800,6 +1166,73 @@ class MissionManagementControllerTest {
                 .andExpect(status().isForbidden());
     }
 
+    @Test
+    @DisplayName("성공: 전체 미션 조회 시 필터 조건과 커서 페이지네이션이 적용된다.")
+    void getAllMission_filterAndCursor_success() throws Exception {
+        // given - 돌발 미션 3개 + 상시 미션 1개
+        for (int i = 1; i <= 3; i++) {
+            missionRepository.save(Mission.builder()
+                    .title("돌발 " + i)
+                    .content("내용")
+                    .missionPoint(10L)
+                    .missionType(EVENT)
+                    .startDate(LocalDate.now())
+                    .deadLine(LocalDate.now().plusDays(2))
+                    .iconUrl("https://s3/icon.png")
+                    .bannerUrl("https://s3/banner.png")
+                    .status(OPEN)
+                    .category("ETC")
+                    .build());
+        }
+        missionRepository.save(Mission.builder()
+                .title("상시")
+                .content("내용")
+                .missionPoint(10L)
+                .missionType(SCHEDULED)
+                .startDate(LocalDate.now())
+                .deadLine(LocalDate.now())
+                .iconUrl("https://s3/icon.png")
+                .bannerUrl("https://s3/banner.png")
+                .status(OPEN)
+                .category("ETC")
+                .build());
+
+        // when & then - 첫 페이지
+        String nextCursor = mockMvc.perform(get("/api/admin/missions")
+                        .param("type", "EVENT")
+                        .param("from", LocalDate.now().toString())
+                        .param("size", "2")
+                        .with(user(new CustomUserDetails(admin))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].title").value("돌발 3"))
+                .andExpect(jsonPath("$[1].title").value("돌발 2"))
+                .andExpect(header().exists(CursorPage.NEXT_CURSOR_HEADER))
+                .andReturn().getResponse().getHeader(CursorPage.NEXT_CURSOR_HEADER);
+
+        // 다음 페이지
+        mockMvc.perform(get("/api/admin/missions")
+                        .param("type", "EVENT")
+                        .param("from", LocalDate.now().toString())
+                        .param("size", "2")
+                        .param("cursor", nextCursor)
+                        .with(user(new CustomUserDetails(admin))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].title").value("돌발 1"))
+                .andExpect(header().doesNotExist(CursorPage.NEXT_CURSOR_HEADER));
+    }
+
+    @Test
+    @DisplayName("실패: 전체 미션 조회 시 시작일 범위가 역전되면 400 을 반환한다.")
+    void getAllMission_invalidDateRange_fail() throws Exception {
+        mockMvc.perform(get("/api/admin/missions")
+                        .param("from", LocalDate.now().toString())
+                        .param("to", LocalDate.now().minusDays(1).toString())
+                        .with(user(new CustomUserDetails(admin))))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @DisplayName("성공: 관리자 계정이 전체 미션 조회에 성공한다.")
     void getAllMission_success() throws Exception {
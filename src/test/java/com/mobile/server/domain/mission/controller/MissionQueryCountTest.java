@@ -0,0 +1,181 @@
+package com.mobile.server.domain.mission.controller;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.mobile.server.config.FakeS3Uploader;
+import com.mobile.server.domain.auth.entity.RoleType;
+import com.mobile.server.domain.auth.entity.User;
+import com.mobile.server.domain.auth.jwt.CustomUserDetails;
+import com.mobile.server.domain.auth.repository.UserRepository;
+import com.mobile.server.domain.file.domain.File;
+import com.mobile.server.domain.file.dto.FileDetailDto;
+import com.mobile.server.domain.file.respository.FileRepository;
+import com.mobile.server.domain.mission.domain.Mission;
+import com.mobile.server.domain.mission.e.MissionStatus;
+import com.mobile.server.domain.mission.e.MissionType;
+import com.mobile.server.domain.mission.repository.MissionRepository;
+import com.mobile.server.domain.missionParticipation.domain.MissionParticipation;
+import com.mobile.server.domain.missionParticipation.eum.MissionParticipationStatus;
+import com.mobile.server.domain.missionParticipation.repository.MissionParticipationRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.LocalDate;
+import org.assertj.core.api.Assertions;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+@ActiveProfiles("test")
+class MissionQueryCountTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MissionRepository missionRepository;
+
+    @Autowired
+    private MissionParticipationRepository missionParticipationRepository;
+
+    @Autowired
+    private FileRepository fileRepository;
+
+    @Autowired
+    private FakeS3Uploader fakeS3Uploader;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private CustomUserDetails student;
+    private CustomUserDetails admin;
+    private Mission mission;
+
+    @BeforeEach
+    void setUp() {
+        student = new CustomUserDetails(userRepository.save(User.builder()
+                .studentId("20250001")
+                .password("password")
+                .nickname("쿼리학생")
+                .role(RoleType.STUDENT)
+                .build()));
+        admin = new CustomUserDetails(userRepository.save(User.builder()
+                .studentId("20250002")
+                .password("password")
+                .nickname("쿼리관리자")
+                .role(RoleType.ADMIN)
+                .build()));
+        mission = missionRepository.save(Mission.builder()
+                .title("텀블러 사용하기")
+                .content("content")
+                .missionPoint(100L)
+                .missionType(MissionType.SCHEDULED)
+                .startDate(LocalDate.now().minusDays(1))
+                .deadLine(LocalDate.now().plusDays(5))
+                .iconUrl("https://s3/icon.png")
+                .bannerUrl("https://s3/banner.png")
+                .status(MissionStatus.OPEN)
+                .category("TUMBLER")
+                .build());
+    }
+
+    //영속성 컨텍스트를 비운 뒤 요청 1회에 실행된 SQL 수 측정
+    private long countStatements(RequestBuilder request) throws Exception {
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        mockMvc.perform(request).andExpect(status().isOk());
+        return statistics.getPrepareStatementCount();
+    }
+
+    @Test
+    @DisplayName("미션 상세 조회는 users 테이블을 조회하지 않는다 (미션 + 제출 여부 = 2)")
+    void getMissionDetail_queryCount() throws Exception {
+        long count = countStatements(get("/api/missions/" + mission.getId()).with(user(student)));
+
+        Assertions.assertThat(count).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("상시 미션 조회는 권한 확인 쿼리 없이 1번만 조회한다")
+    void getScheduledMissions_queryCount() throws Exception {
+        long count = countStatements(get("/api/missions/regular").with(user(student)));
+
+        Assertions.assertThat(count).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("승인 대기 목록 조회는 참여 건수와 무관하게 1번만 조회한다")
+    void getPendingMissions_queryCountIsConstant() throws Exception {
+        savePendingParticipation(mission, 0);
+        long single = countStatements(get("/api/missions/pending").with(user(student)));
+
+        for (int i = 1; i <= 5; i++) {
+            savePendingParticipation(saveMission("미션" + i), i);
+        }
+        long many = countStatements(get("/api/missions/pending").with(user(student)));
+
+        Assertions.assertThat(single).isEqualTo(1);
+        Assertions.assertThat(many).isEqualTo(single);
+    }
+
+    @Test
+    @DisplayName("관리자 카테고리 조회는 DB 를 조회하지 않는다")
+    void getCategoryNameList_queryCount() throws Exception {
+        long count = countStatements(get("/api/admin/missions/category").with(user(admin)));
+
+        Assertions.assertThat(count).isZero();
+    }
+
+    private Mission saveMission(String title) {
+        return missionRepository.save(Mission.builder()
+                .title(title)
+                .content("content")
+                .missionPoint(100L)
+                .missionType(MissionType.SCHEDULED)
+                .startDate(LocalDate.now().minusDays(1))
+                .deadLine(LocalDate.now().plusDays(5))
+                .iconUrl("https://s3/icon.png")
+                .bannerUrl("https://s3/banner.png")
+                .status(MissionStatus.OPEN)
+                .category("TUMBLER")
+                .build());
+    }
+
+    private void savePendingParticipation(Mission target, int index) {
+        MissionParticipation participation = missionParticipationRepository.save(MissionParticipation.builder()
+                .mission(target)
+                .user(userRepository.getReferenceById(student.getUserId()))
+                .participationStatus(MissionParticipationStatus.PENDING)
+                .build());
+        String key = "query-count-" + index + ".jpg";
+        fileRepository.save(File.ofParticipation(participation, FileDetailDto.builder()
+                .originalFileName("photo.jpg")
+                .key(key)
+                .contentType("image/jpeg")
+                .fileSize(5L)
+                .build()));
+        fakeS3Uploader.uploadFile(key, new MockMultipartFile("photo", "photo.jpg", "image/jpeg", "photo".getBytes()));
+    }
+}
@@ -0,0 +1,94 @@
+package com.mobile.server.domain.mission.counter;
+
+import com.mobile.server.domain.mission.domain.Mission;
+import com.mobile.server.domain.mission.e.MissionStatus;
+import com.mobile.server.domain.mission.e.MissionType;
+import com.mobile.server.domain.mission.repository.MissionRepository;
+import java.time.LocalDate;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+//커밋 이후 반영 여부를 확인하므로 테스트 트랜잭션 없이 실행
+@SpringBootTest
+@ActiveProfiles("test")
+class BufferedParticipationCounterTest {
+
+    @Autowired
+    private MissionRepository missionRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @AfterEach
+    void tearDown() {
+        missionRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("동시에 모인 증가분이 flush 한 번으로 유실 없이 반영된다")
+    void flush_appliesAllIncrements() throws Exception {
+        // given
+        Long missionId = saveMission().getId();
+        BufferedParticipationCounter counter = new BufferedParticipationCounter(missionRepository);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 1000; i++) {
+            executor.execute(() -> counter.increment(missionId));
+        }
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+
+        // when
+        counter.flush();
+        counter.flush();
+
+        // then
+        Assertions.assertThat(participationCount(missionId)).isEqualTo(1000);
+    }
+
+    @Test
+    @DisplayName("롤백된 트랜잭션의 증가분은 반영되지 않는다")
+    void increment_rolledBack_notApplied() {
+        // given
+        Long missionId = saveMission().getId();
+        BufferedParticipationCounter counter = new BufferedParticipationCounter(missionRepository);
+
+        // when
+        transactionTemplate.executeWithoutResult(status -> counter.increment(missionId));
+        transactionTemplate.executeWithoutResult(status -> {
+            counter.increment(missionId);
+            status.setRollbackOnly();
+        });
+        counter.flush();
+
+        // then
+        Assertions.assertThat(participationCount(missionId)).isEqualTo(1);
+    }
+
+    private int participationCount(Long missionId) {
+        return missionRepository.findById(missionId).orElseThrow().getParticipationCount();
+    }
+
+    private Mission saveMission() {
+        return missionRepository.save(Mission.builder()
+                .title("인기 돌발 미션")
+                .content("content")
+                .missionPoint(10L)
+                .missionType(MissionType.EVENT)
+                .startDate(LocalDate.now())
+                .deadLine(LocalDate.now().plusDays(1))
+                .iconUrl("https://s3/icon.png")
+                .bannerUrl("https://s3/banner.png")
+                .status(MissionStatus.OPEN)
+                .category("ETC")
+                .build());
+    }
+}
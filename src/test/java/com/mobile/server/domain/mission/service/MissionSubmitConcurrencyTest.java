@@ -0,0 +1,183 @@
+package com.mobile.server.domain.mission.service;
+
+import com.mobile.server.config.FakeS3Uploader;
+import com.mobile.server.domain.auth.entity.RoleType;
+import com.mobile.server.domain.auth.entity.User;
+import com.mobile.server.domain.auth.repository.UserRepository;
+import com.mobile.server.domain.file.constant.UploadStatus;
+import com.mobile.server.domain.file.domain.File;
+import com.mobile.server.domain.file.respository.FileRepository;
+import com.mobile.server.domain.mission.domain.Mission;
+import com.mobile.server.domain.mission.e.MissionStatus;
+import com.mobile.server.domain.mission.e.MissionType;
+import com.mobile.server.domain.mission.repository.MissionRepository;
+import com.mobile.server.domain.missionParticipation.repository.MissionParticipationRepository;
+import com.mobile.server.util.exception.BusinessErrorCode;
+import com.mobile.server.util.exception.BusinessException;
+import com.mobile.server.util.file.S3Uploader;
+import java.security.MessageDigest;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+
+//여러 스레드의 트랜잭션이 각각 커밋되어야 하므로 테스트 트랜잭션 없이 실행
+@SpringBootTest
+@ActiveProfiles("test")
+class MissionSubmitConcurrencyTest {
+
+    private static final int THREADS = 10;
+
+    @Autowired
+    private MissionService missionService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MissionRepository missionRepository;
+
+    @Autowired
+    private MissionParticipationRepository missionParticipationRepository;
+
+    @Autowired
+    private FileRepository fileRepository;
+
+    @Autowired
+    private FakeS3Uploader fakeS3Uploader;
+
+    @AfterEach
+    void tearDown() {
+        fileRepository.deleteAll();
+        fakeS3Uploader.clearStorage();
+        missionParticipationRepository.deleteAll();
+        missionRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("같은 미션을 동시에 여러 번 제출해도 1건만 저장되고 나머지는 중복 제출로 거절된다")
+    void submitMission_concurrentDuplicate() throws Exception {
+        // given
+        User student = saveStudent("20259999", "동시제출학생");
+        Mission mission = saveOpenMission();
+
+        // when
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                try {
+                    missionService.submitMission(student.getId(), mission.getId(), null);
+                    return true;
+                } catch (BusinessException e) {
+                    if (e.getErrorCode() != BusinessErrorCode.DUPLICATE_MISSION_SUBMISSION) {
+                        throw e;
+                    }
+                    return false;
+                }
+            }));
+        }
+        start.countDown();
+        int succeeded = 0;
+        for (Future<Boolean> result : results) {
+            if (result.get()) {
+                succeeded++;
+            }
+        }
+        executor.shutdown();
+
+        // then
+        Assertions.assertThat(succeeded).isEqualTo(1);
+        Assertions.assertThat(missionParticipationRepository.count()).isEqualTo(1);
+        Assertions.assertThat(missionRepository.findById(mission.getId()).orElseThrow().getParticipationCount())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("같은 사진을 동시에 두 번 제출해도 두 제출 모두 UPLOADED 가 되고 FAILED 로 바뀌지 않는다")
+    void submitMission_concurrentIdenticalPhotos() throws Exception {
+        // given
+        Mission mission = saveOpenMission();
+        List<User> students = List.of(saveStudent("20259101", "같은사진학생1"), saveStudent("20259102", "같은사진학생2"));
+        byte[] content = ("same photo " + UUID.randomUUID()).getBytes();
+        String contentKey = S3Uploader.contentKeyOf(
+                HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content)));
+
+        // when
+        ExecutorService executor = Executors.newFixedThreadPool(students.size());
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> results = new ArrayList<>();
+        for (User student : students) {
+            results.add(executor.submit(() -> {
+                start.await();
+                missionService.submitMission(student.getId(), mission.getId(),
+                        new MockMultipartFile("photo", "photo.jpg", "image/jpeg", content));
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> result : results) {
+            result.get();
+        }
+        executor.shutdown();
+
+        // then
+        Assertions.assertThat(awaitNoPending(contentKey)).isTrue();
+        List<File> references = fileRepository.findAll().stream()
+                .filter(file -> file.getFileKey().equals(contentKey))
+                .toList();
+        Assertions.assertThat(references).hasSize(2)
+                .allMatch(file -> file.getUploadStatus() == UploadStatus.UPLOADED);
+        Assertions.assertThat(fakeS3Uploader.getStoredFile(contentKey)).isEqualTo(content);
+    }
+
+    private User saveStudent(String studentId, String nickname) {
+        return userRepository.save(User.builder()
+                .studentId(studentId)
+                .password("password")
+                .nickname(nickname)
+                .role(RoleType.STUDENT)
+                .build());
+    }
+
+    private Mission saveOpenMission() {
+        return missionRepository.save(Mission.builder()
+                .title("텀블러 사용하기")
+                .content("content")
+                .missionPoint(100L)
+                .missionType(MissionType.SCHEDULED)
+                .startDate(LocalDate.now().minusDays(1))
+                .deadLine(LocalDate.now().plusDays(5))
+                .iconUrl("https://s3/icon.png")
+                .bannerUrl("https://s3/banner.png")
+                .status(MissionStatus.OPEN)
+                .category("TUMBLER")
+                .build());
+    }
+
+    private boolean awaitNoPending(String key) throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            if (!fileRepository.existsByFileKeyAndUploadStatus(key, UploadStatus.PENDING)) {
+                return true;
+            }
+            Thread.sleep(50);
+        }
+        return false;
+    }
+}
@@ -0,0 +1,164 @@
+package com.mobile.server.domain.mission.service;
+
+import com.mobile.server.domain.auth.entity.RoleType;
+import com.mobile.server.domain.auth.entity.User;
+import com.mobile.server.domain.auth.repository.UserRepository;
+import com.mobile.server.domain.mission.domain.Mission;
+import com.mobile.server.domain.mission.e.MissionStatus;
+import com.mobile.server.domain.mission.e.MissionType;
+import com.mobile.server.domain.mission.repository.MissionRepository;
+import com.mobile.server.domain.missionParticipation.domain.MissionParticipation;
+import com.mobile.server.domain.missionParticipation.eum.MissionParticipationStatus;
+import com.mobile.server.domain.missionParticipation.repository.MissionParticipationRepository;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+//여러 스레드의 승인 트랜잭션이 각각 커밋되어야 하므로 테스트 트랜잭션 없이 실행
+@SpringBootTest
+@ActiveProfiles("test")
+class ParticipationApproveConcurrencyTest {
+
+    private static final int MISSIONS = 10;
+    private static final int REQUESTS_PER_PARTICIPATION = 5;
+    private static final long MISSION_POINT = 10L;
+
+    @Autowired
+    private MissionManagementService missionManagementService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MissionRepository missionRepository;
+
+    @Autowired
+    private MissionParticipationRepository missionParticipationRepository;
+
+    @AfterEach
+    void tearDown() {
+        missionParticipationRepository.deleteAll();
+        missionRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("한 학생의 참여들을 동시에 중복 승인해도 포인트는 참여당 한 번씩 유실 없이 적립된다")
+    void approve_concurrent_noLostUpdateAndIdempotent() throws Exception {
+        // given
+        User admin = saveUser("20259001", "동시승인관리자", RoleType.ADMIN);
+        User student = saveUser("20259002", "동시승인학생", RoleType.STUDENT);
+        List<Long> participationIds = saveParticipations(student);
+
+        // when - 참여마다 승인 요청 5번씩 동시에
+        ExecutorService executor = Executors.newFixedThreadPool(MISSIONS * REQUESTS_PER_PARTICIPATION);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> results = new ArrayList<>();
+        for (Long participationId : participationIds) {
+            for (int i = 0; i < REQUESTS_PER_PARTICIPATION; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    missionManagementService.requestMissionParticipationApprove(admin.getId(),
+                            participationId.toString());
+                    return null;
+                }));
+            }
+        }
+        start.countDown();
+        for (Future<?> result : results) {
+            result.get();
+        }
+        executor.shutdown();
+
+        // then
+        Assertions.assertThat(userRepository.findById(student.getId()).orElseThrow().getCumulativePoint())
+                .isEqualTo(MISSIONS * MISSION_POINT);
+        Assertions.assertThat(missionParticipationRepository.findAll())
+                .allMatch(participation -> participation.getParticipationStatus()
+                        == MissionParticipationStatus.APPROVED);
+    }
+
+    @Test
+    @DisplayName("같은 참여에 승인과 반려가 동시에 들어오면 먼저 처리된 쪽만 반영되고 포인트는 승인된 참여만큼 적립된다")
+    void approveAndReject_concurrent_firstDecisionWins() throws Exception {
+        // given
+        User admin = saveUser("20259003", "승인반려관리자", RoleType.ADMIN);
+        User student = saveUser("20259004", "승인반려학생", RoleType.STUDENT);
+        List<Long> participationIds = saveParticipations(student);
+
+        // when - 참여마다 승인/반려 요청을 동시에
+        ExecutorService executor = Executors.newFixedThreadPool(MISSIONS * 2);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> results = new ArrayList<>();
+        for (Long participationId : participationIds) {
+            results.add(executor.submit(() -> {
+                start.await();
+                missionManagementService.requestMissionParticipationApprove(admin.getId(), participationId.toString());
+                return null;
+            }));
+            results.add(executor.submit(() -> {
+                start.await();
+                missionManagementService.requestMissionParticipationReject(admin.getId(), participationId.toString());
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> result : results) {
+            result.get();
+        }
+        executor.shutdown();
+
+        // then - PENDING 이 남지 않고, 포인트는 APPROVED 로 남은 참여만큼만 적립 (반려가 승인을 덮어쓰지 않음)
+        List<MissionParticipation> participations = missionParticipationRepository.findAll();
+        Assertions.assertThat(participations).noneMatch(participation -> participation.getParticipationStatus()
+                == MissionParticipationStatus.PENDING);
+        long approved = participations.stream().filter(participation -> participation.getParticipationStatus()
+                == MissionParticipationStatus.APPROVED).count();
+        Assertions.assertThat(userRepository.findById(student.getId()).orElseThrow().getCumulativePoint())
+                .isEqualTo(approved * MISSION_POINT);
+    }
+
+    private User saveUser(String studentId, String nickname, RoleType role) {
+        return userRepository.save(User.builder()
+                .studentId(studentId)
+                .password("password")
+                .nickname(nickname)
+                .role(role)
+                .build());
+    }
+
+    private List<Long> saveParticipations(User student) {
+        List<Long> participationIds = new ArrayList<>();
+        for (int i = 0; i < MISSIONS; i++) {
+            Mission mission = missionRepository.save(Mission.builder()
+                    .title("미션" + i)
+                    .content("content")
+                    .missionPoint(MISSION_POINT)
+                    .missionType(MissionType.SCHEDULED)
+                    .startDate(LocalDate.now().minusDays(1))
+                    .deadLine(LocalDate.now().plusDays(5))
+                    .iconUrl("https://s3/icon.png")
+                    .bannerUrl("https://s3/banner.png")
+                    .status(MissionStatus.OPEN)
+                    .category("TUMBLER")
+                    .build());
+            participationIds.add(missionParticipationRepository.save(MissionParticipation.builder()
+                    .mission(mission)
+                    .user(student)
+                    .participationStatus(MissionParticipationStatus.PENDING)
+                    .build()).getId());
+        }
+        return participationIds;
+    }
+}
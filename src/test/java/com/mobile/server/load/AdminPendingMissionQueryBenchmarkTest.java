@@ -0,0 +1,106 @@
+package com.mobile.server.load;
+
+import static com.mobile.server.domain.missionParticipation.eum.MissionParticipationStatus.APPROVED;
+import static com.mobile.server.domain.missionParticipation.eum.MissionParticipationStatus.PENDING;
+
+import com.mobile.server.domain.mission.domain.Mission;
+import com.mobile.server.domain.mission.dto.MissionSummaryRow;
+import com.mobile.server.domain.mission.e.MissionStatus;
+import com.mobile.server.domain.mission.e.MissionType;
+import com.mobile.server.domain.mission.repository.MissionRepository;
+import jakarta.persistence.EntityManager;
+import java.util.HashSet;
+import java.util.List;
+import java.util.function.Supplier;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+/*
+관리자 승인대기 미션 조회 벤치마크: JOIN + HashSet 중복 제거 vs EXISTS projection
+- 인기 돌발 미션 1개에 승인 대기 5,000건 + 일반 미션 1,000개에 각 20건
+- ./gradlew loadTest 로 실행
+ */
+@Tag("load")
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:bench-pending")
+@ActiveProfiles("test")
+class AdminPendingMissionQueryBenchmarkTest {
+
+    private static final int HOT_MISSION_PENDING = 5_000;
+    private static final int MISSIONS = 1_000;
+    private static final int PARTICIPATIONS_PER_MISSION = 20;
+    private static final int ROUNDS = 20;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MissionRepository missionRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @Transactional
+    @DisplayName("벤치마크: 승인대기 미션 조회 - JOIN 중복 행 vs EXISTS 미션당 1행")
+    void pendingMissionQuery_joinVsExists() {
+        // given
+        MissionDataSeeder seeder = new MissionDataSeeder(jdbcTemplate);
+        List<Long> users = seeder.insertUsers(HOT_MISSION_PENDING);
+        long hotMission = seeder.insertMissions(1, MissionStatus.OPEN, MissionType.EVENT).get(0);
+        List<Long> missions = seeder.insertMissions(MISSIONS, MissionStatus.OPEN, MissionType.SCHEDULED);
+        seeder.insertParticipations(HOT_MISSION_PENDING,
+                i -> new MissionDataSeeder.Participation(hotMission, users.get((int) i), PENDING));
+        seeder.insertParticipations((long) MISSIONS * PARTICIPATIONS_PER_MISSION, i -> new MissionDataSeeder.Participation(
+                missions.get((int) (i / PARTICIPATIONS_PER_MISSION)), users.get((int) (i % users.size())),
+                i % 2 == 0 ? PENDING : APPROVED));
+
+        // when
+        Supplier<JoinResult> legacy = () -> {
+            List<Mission> rows = entityManager.createQuery("""
+                            SELECT m FROM MissionParticipation p JOIN p.mission m
+                            WHERE m.status = :status AND p.participationStatus = :participationStatus
+                            """, Mission.class)
+                    .setParameter("status", MissionStatus.OPEN)
+                    .setParameter("participationStatus", PENDING)
+                    .getResultList();
+            int unique = new HashSet<>(rows).size();
+            entityManager.clear();
+            return new JoinResult(rows.size(), unique);
+        };
+        Supplier<Integer> exists = () -> {
+            List<MissionSummaryRow> rows = missionRepository.findSummariesByMissionStatusAndParticipationStatus(
+                    MissionStatus.OPEN, PENDING);
+            entityManager.clear();
+            return rows.size();
+        };
+        JoinResult legacyResult = legacy.get();
+        int existsResult = exists.get();
+        long legacyNs = measure(legacy);
+        long existsNs = measure(exists);
+
+        // then
+        System.out.printf("[bench] pending missions: join rows=%d (unique %d) %.2fms | exists rows=%d %.2fms%n",
+                legacyResult.rows(), legacyResult.unique(), legacyNs / 1e6, existsResult, existsNs / 1e6);
+        Assertions.assertThat(existsResult).isEqualTo(legacyResult.unique()).isEqualTo(MISSIONS + 1);
+        Assertions.assertThat(legacyResult.rows()).isEqualTo(HOT_MISSION_PENDING + MISSIONS * PARTICIPATIONS_PER_MISSION / 2);
+    }
+
+    private long measure(Supplier<?> query) {
+        long start = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            query.get();
+        }
+        return (System.nanoTime() - start) / ROUNDS;
+    }
+
+    //JOIN 조회 결과 행 수 / 중복 제거 후 미션 수
+    private record JoinResult(int rows, int unique) {
+    }
+}
@@ -0,0 +1,113 @@
+package com.mobile.server.load;
+
+import com.mobile.server.domain.mission.e.MissionStatus;
+import com.mobile.server.domain.mission.e.MissionType;
+import com.mobile.server.domain.missionParticipation.eum.MissionParticipationStatus;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.LongFunction;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/*
+벤치마크용 대량 데이터 적재 (JPA 를 거치지 않고 JDBC batch insert)
+- 빈 DB 를 전제로 하며, 삽입된 id 목록을 반환
+ */
+class MissionDataSeeder {
+
+    private static final int BATCH_SIZE = 5_000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    MissionDataSeeder(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    record Participation(long missionId, long userId, MissionParticipationStatus status) {
+    }
+
+    List<Long> insertUsers(int count) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        batch(count, """
+                INSERT INTO users (nickname, student_id, password, role, cumulative_point, created_at)
+                VALUES (?, ?, 'bench', 'STUDENT', 0, ?)
+                """, (ps, i) -> {
+            ps.setString(1, "bench-" + i);
+            ps.setString(2, String.format("%08d", i));
+            ps.setTimestamp(3, now);
+        });
+        return jdbcTemplate.queryForList("SELECT id FROM users ORDER BY id", Long.class);
+    }
+
+    List<Long> insertMissions(int count, MissionStatus status, MissionType type) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM mission", Long.class);
+        batch(count, """
+                INSERT INTO mission (title, content, mission_point, mission_type, start_date, dead_line,
+                                     icon_url, banner_url, status, category, participation_count, created_at)
+                VALUES (?, 'bench', 10, ?, ?, ?, 'https://s3/icon.png', 'https://s3/banner.png', ?, 'ETC', 0, ?)
+                """, (ps, i) -> {
+            LocalDate start = LocalDate.now().minusDays(i % 365);
+            ps.setString(1, "bench-" + status + "-" + i);
+            ps.setString(2, type.name());
+            ps.setObject(3, start);
+            ps.setObject(4, start.plusDays(1));
+            ps.setString(5, status.name());
+            ps.setTimestamp(6, now);
+        });
+        return jdbcTemplate.queryForList("SELECT id FROM mission WHERE id > ? ORDER BY id", Long.class, maxId);
+    }
+
+    void insertParticipations(long count, LongFunction<Participation> generator) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        String sql = """
+                INSERT INTO mission_participation (participation_status, mission_id, user_id, created_at)
+                VALUES (?, ?, ?, ?)
+                """;
+        for (long offset = 0; offset < count; offset += BATCH_SIZE) {
+            long start = offset;
+            int size = (int) Math.min(BATCH_SIZE, count - offset);
+            jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    Participation row = generator.apply(start + i);
+                    ps.setString(1, row.status().name());
+                    ps.setLong(2, row.missionId());
+                    ps.setLong(3, row.userId());
+                    ps.setTimestamp(4, now);
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return size;
+                }
+            });
+        }
+    }
+
+    private void batch(int count, String sql, RowSetter setter) {
+        for (int offset = 0; offset < count; offset += BATCH_SIZE) {
+            int start = offset;
+            int size = Math.min(BATCH_SIZE, count - offset);
+            jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    setter.set(ps, start + i);
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return size;
+                }
+            });
+        }
+    }
+
+    private interface RowSetter {
+        void set(PreparedStatement ps, int index) throws SQLException;
+    }
+}
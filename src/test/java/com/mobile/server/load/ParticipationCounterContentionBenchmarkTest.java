@@ -0,0 +1,141 @@
+package com.mobile.server.load;
+
+import com.mobile.server.domain.mission.counter.BufferedParticipationCounter;
+import com.mobile.server.domain.mission.e.MissionStatus;
+import com.mobile.server.domain.mission.e.MissionType;
+import com.mobile.server.domain.mission.repository.MissionRepository;
+import com.mobile.server.domain.mission.service.MissionService;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/*
+인기 돌발 미션 참여자 수 경합 벤치마크 (동시 제출자 200명)
+- 엔티티 read-modify-write vs 원자적 UPDATE vs LongAdder 버퍼 + flush
+- ./gradlew loadTest 로 실행
+ */
+@Tag("load")
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:bench-counter",
+        "spring.datasource.hikari.maximum-pool-size=64"
+})
+@ActiveProfiles("test")
+class ParticipationCounterContentionBenchmarkTest {
+
+    private static final int SUBMITTERS = 200;
+    private static final int INCREMENTS_PER_SUBMITTER = 20;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MissionRepository missionRepository;
+
+    @Autowired
+    private MissionService missionService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    @DisplayName("벤치마크: 동시 제출 200건의 참여자 수가 유실 없이 반영된다")
+    void concurrentSubmissions_noLostUpdates() throws Exception {
+        // given
+        MissionDataSeeder seeder = new MissionDataSeeder(jdbcTemplate);
+        List<Long> users = seeder.insertUsers(SUBMITTERS);
+        long missionId = seeder.insertMissions(1, MissionStatus.OPEN, MissionType.EVENT).get(0);
+
+        // when
+        long elapsed = runConcurrently(i -> missionService.submitMission(users.get((int) i), missionId, null));
+
+        // then
+        System.out.printf("[bench] %d concurrent submissions (atomic counter): %.2fms%n", SUBMITTERS, elapsed / 1e6);
+        Assertions.assertThat(participationCount(missionId)).isEqualTo(SUBMITTERS);
+    }
+
+    @Test
+    @DisplayName("벤치마크: 참여자 수 증가 방식별 경합 비교")
+    void counterStrategies() throws Exception {
+        // given
+        MissionDataSeeder seeder = new MissionDataSeeder(jdbcTemplate);
+        List<Long> missions = seeder.insertMissions(3, MissionStatus.OPEN, MissionType.EVENT);
+        BufferedParticipationCounter buffered = new BufferedParticipationCounter(missionRepository);
+        int expected = SUBMITTERS * INCREMENTS_PER_SUBMITTER;
+
+        // when
+        long readModifyWrite = runConcurrently(i -> repeat(() -> transactionTemplate.executeWithoutResult(status -> {
+            Integer current = jdbcTemplate.queryForObject(
+                    "SELECT participation_count FROM mission WHERE id = ?", Integer.class, missions.get(0));
+            jdbcTemplate.update("UPDATE mission SET participation_count = ? WHERE id = ?", current + 1, missions.get(0));
+        })));
+        long atomic = runConcurrently(i -> repeat(() -> missionRepository.incrementParticipationCount(missions.get(1), 1)));
+        long bufferedElapsed = runConcurrently(i -> repeat(() -> buffered.increment(missions.get(2))));
+        long flushStart = System.nanoTime();
+        buffered.flush();
+        bufferedElapsed += System.nanoTime() - flushStart;
+
+        // then
+        System.out.printf("[bench] %d increments x %d threads: read-modify-write %.2fms (count %d) | "
+                        + "atomic update %.2fms (count %d) | buffered %.2fms (count %d)%n",
+                INCREMENTS_PER_SUBMITTER, SUBMITTERS,
+                readModifyWrite / 1e6, participationCount(missions.get(0)),
+                atomic / 1e6, participationCount(missions.get(1)),
+                bufferedElapsed / 1e6, participationCount(missions.get(2)));
+        Assertions.assertThat(participationCount(missions.get(1))).isEqualTo(expected);
+        Assertions.assertThat(participationCount(missions.get(2))).isEqualTo(expected);
+    }
+
+    private void repeat(Runnable increment) {
+        for (int i = 0; i < INCREMENTS_PER_SUBMITTER; i++) {
+            increment.run();
+        }
+    }
+
+    //제출자 수만큼 스레드를 동시에 출발시키고 전체 소요 시간(ns) 반환 - 작업이 하나라도 실패하면 테스트 실패
+    private long runConcurrently(BenchTask task) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(SUBMITTERS);
+        CountDownLatch start = new CountDownLatch(1);
+        Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+        for (int i = 0; i < SUBMITTERS; i++) {
+            long index = i;
+            executor.execute(() -> {
+                try {
+                    start.await();
+                    task.run(index);
+                } catch (Throwable e) {
+                    failures.add(e);
+                }
+            });
+        }
+        long begin = System.nanoTime();
+        start.countDown();
+        executor.shutdown();
+        Assertions.assertThat(executor.awaitTermination(5, TimeUnit.MINUTES)).isTrue();
+        long elapsed = System.nanoTime() - begin;
+        Assertions.assertThat(failures).as("failed bench tasks").isEmpty();
+        return elapsed;
+    }
+
+    @FunctionalInterface
+    private interface BenchTask {
+        void run(long index) throws Exception;
+    }
+
+    private int participationCount(long missionId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT participation_count FROM mission WHERE id = ?", Integer.class, missionId);
+    }
+}
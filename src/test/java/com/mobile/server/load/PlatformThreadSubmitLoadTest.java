@@ -0,0 +1,18 @@
+package com.mobile.server.load;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.context.TestPropertySource;
+
+@TestPropertySource(properties = {
+        "spring.threads.virtual.enabled=false",
+        "spring.datasource.url=jdbc:h2:mem:load-platform"
+})
+class PlatformThreadSubmitLoadTest extends SubmitLoadTestSupport {
+
+    @Test
+    @DisplayName("부하: 플랫폼 스레드 모드 미션 제출 처리량")
+    void submitThroughput_platformThreads() throws Exception {
+        runSubmitLoad("platform");
+    }
+}
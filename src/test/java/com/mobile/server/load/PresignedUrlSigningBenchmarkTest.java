@@ -0,0 +1,68 @@
+package com.mobile.server.load;
+
+import com.mobile.server.util.file.PresignedUrlCache;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.stream.IntStream;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+/*
+presigned URL 서명 비용 벤치마크: 매번 SigV4 서명 vs PresignedUrlCache
+- 목록 응답 1회 = URL 50개, 기본 200회 응답 (실제 presigner, 네트워크 호출 없음)
+- 규모 조정: ./gradlew loadTest -Dbench.responses=1000
+ */
+@Tag("load")
+class PresignedUrlSigningBenchmarkTest {
+
+    private static final int URLS_PER_RESPONSE = 50;
+    private static final int RESPONSES = Integer.getInteger("bench.responses", 200);
+    private static final Duration TTL = Duration.ofMinutes(10);
+
+    @Test
+    @DisplayName("벤치마크: 목록 응답 1회당 서명 비용 - 매번 서명 vs 캐시")
+    void listResponse_signingCostSaved() {
+        // given
+        List<String> keys = IntStream.range(0, URLS_PER_RESPONSE)
+                .mapToObj(i -> "participation/" + i + "_photo.jpg").toList();
+        try (S3Presigner presigner = S3Presigner.builder()
+                .region(Region.AP_NORTHEAST_2)
+                .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("test", "test")))
+                .build()) {
+            BiFunction<String, Duration, String> signer = (key, ttl) -> presigner.presignGetObject(r -> r
+                    .signatureDuration(ttl)
+                    .getObjectRequest(g -> g.bucket("bucket").key(key))).url().toString();
+            PresignedUrlCache cache = new PresignedUrlCache(10000, TTL, Duration.ofMinutes(2));
+
+            // warm-up
+            keys.forEach(key -> signer.apply(key, TTL));
+            keys.forEach(key -> cache.getOrSign(key, signer));
+
+            // when
+            long uncachedNs = measure(() -> keys.forEach(key -> signer.apply(key, TTL)));
+            long cachedNs = measure(() -> keys.forEach(key -> cache.getOrSign(key, signer)));
+
+            // then
+            System.out.printf("[presign] per list response (%d urls): sign=%dus cached=%dus saved=%dus%n",
+                    keys.size(), uncachedNs / RESPONSES / 1000, cachedNs / RESPONSES / 1000,
+                    (uncachedNs - cachedNs) / RESPONSES / 1000);
+            Assertions.assertThat(cache.getMissCount()).isEqualTo(keys.size());
+            Assertions.assertThat(cache.getHitCount()).isEqualTo((long) keys.size() * RESPONSES);
+        }
+    }
+
+    private long measure(Runnable runnable) {
+        long start = System.nanoTime();
+        for (int i = 0; i < RESPONSES; i++) {
+            runnable.run();
+        }
+        return System.nanoTime() - start;
+    }
+}
@@ -0,0 +1,126 @@
+package com.mobile.server.load;
+
+import com.mobile.server.domain.auth.entity.RoleType;
+import com.mobile.server.domain.auth.entity.User;
+import com.mobile.server.domain.auth.jwt.JWTUtil;
+import com.mobile.server.domain.auth.repository.UserRepository;
+import com.mobile.server.domain.mission.domain.Mission;
+import com.mobile.server.domain.mission.e.MissionStatus;
+import com.mobile.server.domain.mission.e.MissionType;
+import com.mobile.server.domain.mission.repository.MissionRepository;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+/*
+미션 제출 API 부하 테스트 공통 로직
+- 느린 S3(test.s3.latency) + 작은 Tomcat 스레드 풀 환경에서 동시 제출 처리량을 측정
+- 플랫폼 스레드 / 가상 스레드 모드는 하위 클래스에서 설정
+- 기본 test 태스크에서는 제외, ./gradlew loadTest 로 실행
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "server.tomcat.threads.max=8",
+        "test.s3.latency=200ms",
+        "spring.datasource.hikari.maximum-pool-size=64"
+})
+@ActiveProfiles("test")
+abstract class SubmitLoadTestSupport {
+
+    private static final int REQUESTS = 200;
+    private static final int CONCURRENCY = 64;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MissionRepository missionRepository;
+
+    @Autowired
+    private JWTUtil jwtUtil;
+
+    protected void runSubmitLoad(String mode) throws Exception {
+        // given - 요청마다 서로 다른 사용자/미션 (DB 경합이 아닌 스레드 모델만 비교)
+        List<HttpRequest> requests = new ArrayList<>();
+        for (int i = 0; i < REQUESTS; i++) {
+            User user = userRepository.save(User.builder()
+                    .studentId(String.format("9%07d", i))
+                    .nickname(mode + "-" + i)
+                    .password("load-test")
+                    .role(RoleType.STUDENT)
+                    .cumulativePoint(0L)
+                    .build());
+            Mission mission = missionRepository.save(Mission.builder()
+                    .title("부하 테스트 미션 " + i)
+                    .content("부하 테스트")
+                    .missionPoint(10L)
+                    .missionType(MissionType.SCHEDULED)
+                    .startDate(LocalDate.now().minusDays(1))
+                    .deadLine(LocalDate.now().plusDays(1))
+                    .iconUrl("https://fake-s3.local/icons/load.png")
+                    .bannerUrl("https://fake-s3.local/banners/load.png")
+                    .status(MissionStatus.OPEN)
+                    .category("ETC")
+                    .participationCount(0)
+                    .build());
+            String token = jwtUtil.createAccessToken(user.getId(), user.getStudentId(), user.getRole().name());
+            requests.add(submitRequest(mission.getId(), token));
+        }
+
+        // when
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+        ExecutorService callers = Executors.newFixedThreadPool(CONCURRENCY);
+        List<Future<Integer>> results = new ArrayList<>();
+        long start = System.nanoTime();
+        try {
+            for (HttpRequest request : requests) {
+                results.add(callers.submit(
+                        () -> client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode()));
+            }
+            for (Future<Integer> result : results) {
+                Assertions.assertThat(result.get()).isEqualTo(200);
+            }
+        } finally {
+            callers.shutdownNow();
+        }
+        double elapsedSeconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        // then
+        System.out.printf("[load] mode=%s requests=%d concurrency=%d elapsed=%.2fs throughput=%.1f req/s%n",
+                mode, REQUESTS, CONCURRENCY, elapsedSeconds, REQUESTS / elapsedSeconds);
+    }
+
+    private HttpRequest submitRequest(Long missionId, String token) {
+        String boundary = "----load-" + UUID.randomUUID();
+        String body = "--" + boundary + "\r\n"
+                + "Content-Disposition: form-data; name=\"photo\"; filename=\"load.jpg\"\r\n"
+                + "Content-Type: image/jpeg\r\n\r\n"
+                + UUID.randomUUID() + "x".repeat(4096) + "\r\n" // 요청마다 다른 내용 (내용 기반 중복 제거로 업로드가 생략되지 않도록)
+                + "--" + boundary + "--\r\n";
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/missions/" + missionId + "/submit"))
+                .header("Authorization", "Bearer " + token)
+                .header("Content-Type", "multipart/form-data; boundary=" + boundary)
+                .timeout(Duration.ofSeconds(60))
+                .POST(HttpRequest.BodyPublishers.ofString(body, StandardCharsets.UTF_8))
+                .build();
+    }
+}
@@ -0,0 +1,134 @@
+package com.mobile.server.load;
+
+import static com.mobile.server.domain.missionParticipation.eum.MissionParticipationStatus.APPROVED;
+import static com.mobile.server.domain.missionParticipation.eum.MissionParticipationStatus.PENDING;
+import static com.mobile.server.domain.missionParticipation.eum.MissionParticipationStatus.REJECTED;
+
+import com.mobile.server.domain.mission.domain.Mission;
+import com.mobile.server.domain.mission.e.MissionStatus;
+import com.mobile.server.domain.mission.e.MissionType;
+import com.mobile.server.domain.mission.repository.MissionRepository;
+import com.mobile.server.domain.missionParticipation.eum.MissionParticipationStatus;
+import jakarta.persistence.EntityManager;
+import java.util.List;
+import java.util.function.IntSupplier;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+/*
+종료 미션 조회 벤치마크: RIGHT JOIN + GROUP BY/HAVING vs NOT EXISTS 커서 페이지
+- 기본 미션 100,000개(90% 마감) / 참여 5,000,000건, 마감 미션 10개 중 1개에 승인 대기 1건
+- 규모 조정: ./gradlew loadTest -Dbench.missions=10000 -Dbench.participations=500000
+ */
+@Tag("load")
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:bench-termination")
+@ActiveProfiles("test")
+class TerminationMissionQueryBenchmarkTest {
+
+    private static final int MISSIONS = Integer.getInteger("bench.missions", 100_000);
+    private static final long PARTICIPATIONS = Long.getLong("bench.participations", 5_000_000L);
+    private static final int USERS = 5_000;
+    private static final int PAGE_SIZE = 20;
+    private static final int ROUNDS = 5;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MissionRepository missionRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("벤치마크: 종료 미션 조회 - GROUP BY 전체 스캔 vs NOT EXISTS 첫 페이지")
+    void terminationMissionQuery_groupByVsNotExists() {
+        // given
+        MissionDataSeeder seeder = new MissionDataSeeder(jdbcTemplate);
+        List<Long> users = seeder.insertUsers(USERS);
+        List<Long> openMissions = seeder.insertMissions(MISSIONS / 10, MissionStatus.OPEN, MissionType.SCHEDULED);
+        List<Long> closedMissions = seeder.insertMissions(MISSIONS - openMissions.size(), MissionStatus.CLOSED,
+                MissionType.SCHEDULED);
+        int missionCount = openMissions.size() + closedMissions.size();
+        seeder.insertParticipations(PARTICIPATIONS, i -> {
+            int missionIndex = (int) (i % missionCount);
+            long round = i / missionCount;
+            long missionId = missionIndex < openMissions.size()
+                    ? openMissions.get(missionIndex)
+                    : closedMissions.get(missionIndex - openMissions.size());
+            return new MissionDataSeeder.Participation(missionId, users.get((int) (round % USERS)),
+                    statusOf(missionIndex, round));
+        });
+        jdbcTemplate.execute("ANALYZE");
+
+        // when
+        int legacyCount = legacyQuery().size();
+        int pagedCount = drainPages();
+        long legacyNs = measure(() -> legacyQuery().size());
+        long firstPageNs = measure(() -> missionRepository.findAllByMissionStatusWithoutParticipationStatus(
+                MissionStatus.CLOSED, PENDING, null, Limit.of(PAGE_SIZE + 1)).size());
+        long drainNs = measure(this::drainPages);
+
+        // then
+        System.out.printf(
+                "[bench] termination missions (%d missions / %d participations): group by %d rows %.2fms | "
+                        + "not exists first page %.2fms, all %d pages %.2fms%n",
+                missionCount, PARTICIPATIONS, legacyCount, legacyNs / 1e6, firstPageNs / 1e6,
+                (pagedCount + PAGE_SIZE - 1) / PAGE_SIZE, drainNs / 1e6);
+        Assertions.assertThat(pagedCount).isEqualTo(legacyCount);
+    }
+
+    //마감 미션 10개 중 1개는 첫 참여를 승인 대기로 둠
+    private static MissionParticipationStatus statusOf(int missionIndex, long round) {
+        if (round == 0 && missionIndex % 10 == 0) {
+            return PENDING;
+        }
+        return round % 4 == 0 ? REJECTED : APPROVED;
+    }
+
+    private List<Mission> legacyQuery() {
+        List<Mission> result = entityManager.createQuery("""
+                        SELECT m
+                        FROM MissionParticipation p
+                        RIGHT JOIN p.mission m
+                        WHERE m.status = :missionStatus
+                        GROUP BY m
+                        HAVING COUNT(CASE WHEN p.participationStatus = :missionParticipationStatus THEN 1 END) = 0
+                               OR COUNT(p) = 0
+                        """, Mission.class)
+                .setParameter("missionStatus", MissionStatus.CLOSED)
+                .setParameter("missionParticipationStatus", PENDING)
+                .getResultList();
+        entityManager.clear();
+        return result;
+    }
+
+    private int drainPages() {
+        int count = 0;
+        Long cursor = null;
+        while (true) {
+            List<Mission> page = missionRepository.findAllByMissionStatusWithoutParticipationStatus(
+                    MissionStatus.CLOSED, PENDING, cursor, Limit.of(PAGE_SIZE));
+            count += page.size();
+            if (page.size() < PAGE_SIZE) {
+                return count;
+            }
+            cursor = page.get(page.size() - 1).getId();
+        }
+    }
+
+    private long measure(IntSupplier query) {
+        long start = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            query.getAsInt();
+        }
+        return (System.nanoTime() - start) / ROUNDS;
+    }
+}
@@ -0,0 +1,18 @@
+package com.mobile.server.load;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.context.TestPropertySource;
+
+@TestPropertySource(properties = {
+        "spring.threads.virtual.enabled=true",
+        "spring.datasource.url=jdbc:h2:mem:load-virtual"
+})
+class VirtualThreadSubmitLoadTest extends SubmitLoadTestSupport {
+
+    @Test
+    @DisplayName("부하: 가상 스레드 모드 미션 제출 처리량")
+    void submitThroughput_virtualThreads() throws Exception {
+        runSubmitLoad("virtual");
+    }
+}
@@ -0,0 +1,65 @@
+package com.mobile.server.schema;
+
+import java.util.Arrays;
+import javax.sql.DataSource;
+import org.assertj.core.api.Assertions;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfo;
+import org.flywaydb.core.api.MigrationType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.test.context.ActiveProfiles;
+
+/*
+운영 DB 첫 배포 경로 검증 (H2 MySQL 호환 모드)
+- 기존 ddl-auto: create 로 만들어진 DB 를 V1 스크립트로 재현 (Flyway 이력 테이블 없음)
+- baseline-on-migrate 로 V1 을 건너뛰고 V2 부터 적용한 뒤 Hibernate validate 로 엔티티와 비교
+- 컨텍스트가 뜨면 validate 통과
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:flyway-baseline;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.flyway.enabled=true",
+        "spring.flyway.baseline-on-migrate=true",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.jpa.defer-datasource-initialization=false"
+})
+@ActiveProfiles("test")
+class FlywayBaselineValidationTest {
+
+    @TestConfiguration
+    static class ExistingSchemaConfig {
+
+        //마이그레이션 전에 기존 스키마를 먼저 생성
+        @Bean
+        FlywayMigrationStrategy existingSchemaMigrationStrategy() {
+            return flyway -> {
+                DataSource dataSource = flyway.getConfiguration().getDataSource();
+                new ResourceDatabasePopulator(new ClassPathResource("db/migration/V1__init_schema.sql"))
+                        .execute(dataSource);
+                flyway.migrate();
+            };
+        }
+    }
+
+    @Autowired
+    private Flyway flyway;
+
+    @Test
+    @DisplayName("성공: 기존 스키마를 V1 으로 baseline 한 뒤 나머지 버전을 적용하면 엔티티 검증을 통과한다.")
+    void baselineThenMigrate_passesValidation() {
+        // then
+        MigrationInfo[] applied = flyway.info().applied();
+        Assertions.assertThat(applied[0].getType()).isEqualTo(MigrationType.BASELINE);
+        Assertions.assertThat(applied[0].getVersion().getVersion()).isEqualTo("1");
+        Assertions.assertThat(Arrays.stream(applied).skip(1).toList()).isNotEmpty()
+                .allMatch(info -> info.getType() == MigrationType.SQL && info.getState().isApplied());
+        Assertions.assertThat(flyway.info().pending()).isEmpty();
+    }
+}
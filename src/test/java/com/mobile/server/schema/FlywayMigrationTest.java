@@ -0,0 +1,52 @@
+package com.mobile.server.schema;
+
+import java.util.List;
+import org.assertj.core.api.Assertions;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.output.MigrateResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+/*
+db/migration 스크립트 검증 (H2 MySQL 호환 모드)
+- 빈 DB 에 전체 버전이 적용되는지, 조회용 인덱스가 생성되는지 확인
+ */
+class FlywayMigrationTest {
+
+    @Test
+    @DisplayName("성공: 빈 DB 에 모든 마이그레이션이 적용되고 조회용 인덱스가 생성된다.")
+    void migrate_success() {
+        // given
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:flyway-migration;MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+        Flyway flyway = Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration")
+                .load();
+
+        // when
+        MigrateResult result = flyway.migrate();
+
+        // then
+        Assertions.assertThat(result.success).isTrue();
+        Assertions.assertThat(flyway.info().pending()).isEmpty();
+        List<String> indexes = new JdbcTemplate(dataSource).queryForList(
+                "SELECT LOWER(index_name) FROM information_schema.indexes", String.class);
+        Assertions.assertThat(indexes).contains(
+                "idx_mission_status_id",
+                "idx_mission_status_dead_line",
+                "idx_mission_status_start_date",
+                "idx_mission_type_status",
+                "idx_participation_mission_status",
+                "idx_participation_user_status_id",
+                "idx_file_participation_deleted",
+                "idx_file_upload_status",
+                "idx_file_file_key");
+        List<String> constraints = new JdbcTemplate(dataSource).queryForList(
+                "SELECT LOWER(constraint_name) FROM information_schema.table_constraints", String.class);
+        Assertions.assertThat(constraints).contains("uk_participation_mission_user")
+                .doesNotContain("ukmsojqy4d5ruriknrdmjhe8wwx");
+    }
+}
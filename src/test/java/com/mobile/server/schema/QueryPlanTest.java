@@ -0,0 +1,238 @@
+package com.mobile.server.schema;
+
+import com.mobile.server.domain.auth.entity.RoleType;
+import com.mobile.server.domain.auth.entity.User;
+import com.mobile.server.domain.auth.refresh.RefreshTokenJpaRepository;
+import com.mobile.server.domain.auth.repository.UserRepository;
+import com.mobile.server.domain.file.constant.UploadStatus;
+import com.mobile.server.domain.file.domain.File;
+import com.mobile.server.domain.file.dto.FileDetailDto;
+import com.mobile.server.domain.file.respository.FileRepository;
+import com.mobile.server.domain.mission.domain.Mission;
+import com.mobile.server.domain.mission.e.MissionStatus;
+import com.mobile.server.domain.mission.e.MissionType;
+import com.mobile.server.domain.mission.repository.MissionRepository;
+import com.mobile.server.domain.missionParticipation.domain.MissionParticipation;
+import com.mobile.server.domain.missionParticipation.eum.MissionParticipationStatus;
+import com.mobile.server.domain.missionParticipation.repository.MissionParticipationRepository;
+import jakarta.persistence.EntityManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.assertj.core.api.Assertions;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+/*
+리포지토리 쿼리 실행 계획 검증
+- 각 리포지토리 메서드가 실제로 실행한 SQL 을 수집해 EXPLAIN 후, 전체 스캔(tableScan)이 있으면 실패
+- H2 는 prepare 시점에 실행 계획을 정하므로 파라미터는 NULL 로 바인딩해도 계획이 같음
+ */
+@SpringBootTest
+@Transactional
+@ActiveProfiles("test")
+class QueryPlanTest {
+
+    private static final String FULL_SCAN = "tableScan";
+
+    @TestConfiguration
+    static class SqlCaptureConfig {
+
+        @Bean
+        SqlCaptor sqlCaptor() {
+            return new SqlCaptor();
+        }
+
+        @Bean
+        HibernatePropertiesCustomizer sqlCaptorCustomizer(SqlCaptor sqlCaptor) {
+            return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, sqlCaptor);
+        }
+    }
+
+    static class SqlCaptor implements StatementInspector {
+        private final List<String> statements = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            statements.add(sql);
+            return sql;
+        }
+
+        List<String> drain() {
+            List<String> result = new ArrayList<>(statements);
+            statements.clear();
+            return result;
+        }
+    }
+
+    @Autowired
+    private SqlCaptor sqlCaptor;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MissionRepository missionRepository;
+
+    @Autowired
+    private MissionParticipationRepository missionParticipationRepository;
+
+    @Autowired
+    private FileRepository fileRepository;
+
+    @Autowired
+    private RefreshTokenJpaRepository refreshTokenJpaRepository;
+
+    private User student;
+    private Mission mission;
+    private MissionParticipation participation;
+    private File file;
+
+    @BeforeEach
+    void setUp() {
+        student = userRepository.save(User.builder()
+                .studentId("20250001")
+                .password("password")
+                .nickname("계획학생")
+                .role(RoleType.STUDENT)
+                .build());
+        mission = missionRepository.save(Mission.builder()
+                .title("텀블러 사용하기")
+                .content("content")
+                .missionPoint(100L)
+                .missionType(MissionType.EVENT)
+                .startDate(LocalDate.now().minusDays(1))
+                .deadLine(LocalDate.now().plusDays(5))
+                .iconUrl("https://s3/icon.png")
+                .bannerUrl("https://s3/banner.png")
+                .status(MissionStatus.OPEN)
+                .category("TUMBLER")
+                .build());
+        participation = missionParticipationRepository.save(MissionParticipation.builder()
+                .mission(mission)
+                .user(student)
+                .participationStatus(MissionParticipationStatus.PENDING)
+                .build());
+        file = fileRepository.save(File.ofParticipation(participation,
+                new FileDetailDto("proof.png", "participation/plan-proof.png", "image/png", 10L)));
+    }
+
+    @Test
+    @DisplayName("미션 조회 쿼리는 전체 스캔 없이 인덱스를 사용한다")
+    void missionRepository_usesIndex() {
+        assertNoFullScan(() -> missionRepository.findSummariesByMissionStatusAndParticipationStatus(
+                MissionStatus.OPEN, MissionParticipationStatus.PENDING));
+        assertNoFullScan(() -> missionRepository.findAllByMissionStatusWithoutParticipationStatus(
+                MissionStatus.CLOSED, MissionParticipationStatus.PENDING, null, Limit.of(21)));
+        assertNoFullScan(() -> missionRepository.findAllByStatusAndDeadLineLessThanEqual(
+                MissionStatus.OPEN, LocalDate.now()));
+        assertNoFullScan(() -> missionRepository.findAllByStatusAndStartDateEquals(
+                MissionStatus.CLOSED, LocalDate.now()));
+        assertNoFullScan(() -> missionRepository.findAllByMissionTypeAndStatus(
+                MissionType.EVENT, MissionStatus.OPEN));
+        // searchMissions 는 선택 필터(:x IS NULL OR ...) + PK 역순 LIMIT 탐색이므로 검사 대상에서 제외
+    }
+
+    @Test
+    @DisplayName("미션 참여 조회 쿼리는 전체 스캔 없이 인덱스를 사용한다")
+    void missionParticipationRepository_usesIndex() {
+        assertNoFullScan(() -> missionParticipationRepository.findByMissionAndUser(mission, student));
+        assertNoFullScan(() -> missionParticipationRepository.findPendingMissionRows(
+                student.getId(), MissionParticipationStatus.PENDING, null, Limit.of(21)));
+        assertNoFullScan(() -> missionParticipationRepository.findHistoryRows(student.getId(), null, Limit.of(21)));
+        assertNoFullScan(() -> missionParticipationRepository.findApprovalRequestRows(
+                mission.getId(), MissionParticipationStatus.PENDING, null, Limit.of(21)));
+        assertNoFullScan(() -> missionParticipationRepository.findByIdAndUser(participation.getId(), student));
+        assertNoFullScan(() -> missionParticipationRepository.updateStatusIfCurrent(participation.getId(),
+                MissionParticipationStatus.PENDING, MissionParticipationStatus.APPROVED));
+    }
+
+    @Test
+    @DisplayName("파일 조회/갱신 쿼리는 전체 스캔 없이 인덱스를 사용한다")
+    void fileRepository_usesIndex() {
+        assertNoFullScan(() -> fileRepository.findByParticipationAndIsDeletedFalse(participation));
+        assertNoFullScan(() -> fileRepository.findAllByUploadStatus(UploadStatus.PENDING));
+        assertNoFullScan(() -> fileRepository.existsByFileKeyAndUploadStatus(file.getFileKey(),
+                UploadStatus.PENDING));
+        assertNoFullScan(() -> fileRepository.findFirstByFileKeyAndUploadStatus(file.getFileKey(),
+                UploadStatus.UPLOADED));
+        assertNoFullScan(() -> fileRepository.updateUploadStatus(file.getFileKey(), UploadStatus.PENDING,
+                UploadStatus.UPLOADED));
+        assertNoFullScan(() -> fileRepository.updateUploadStatusCreatedBefore(file.getFileKey(),
+                UploadStatus.PENDING, UploadStatus.FAILED, LocalDateTime.now()));
+        assertNoFullScan(() -> fileRepository.adoptStoredFile(file.getFileKey(), UploadStatus.PENDING,
+                UploadStatus.UPLOADED, "image/jpeg", 1L, null, null));
+        assertNoFullScan(() -> fileRepository.findParticipationIdsByFileKeyAndUploadStatus(file.getFileKey(),
+                UploadStatus.UPLOADED));
+        assertNoFullScan(() -> fileRepository.findPerceptualHashRows(0L, Limit.of(100)));
+    }
+
+    @Test
+    @DisplayName("사용자/리프레시 토큰 쿼리는 전체 스캔 없이 인덱스를 사용한다")
+    void userRepository_usesIndex() {
+        assertNoFullScan(() -> userRepository.findByStudentId(student.getStudentId()));
+        assertNoFullScan(() -> userRepository.existsByStudentId(student.getStudentId()));
+        assertNoFullScan(() -> userRepository.existsByNickname(student.getNickname()));
+        assertNoFullScan(() -> userRepository.findRoleById(student.getId()));
+        assertNoFullScan(() -> userRepository.updatePassword(student.getId(), "rehashed"));
+        assertNoFullScan(() -> userRepository.grantMissionPoint(participation.getId()));
+        assertNoFullScan(() -> refreshTokenJpaRepository.rotate("family", "old", "new", LocalDateTime.now()));
+        assertNoFullScan(() -> refreshTokenJpaRepository.deleteExpired(LocalDateTime.now()));
+    }
+
+    //쿼리 1회 실행 중 수집된 SQL 각각의 실행 계획 검사
+    private void assertNoFullScan(Runnable query) {
+        entityManager.flush();
+        entityManager.clear();
+        sqlCaptor.drain();
+        query.run();
+        List<String> statements = sqlCaptor.drain();
+
+        Assertions.assertThat(statements).isNotEmpty();
+        for (String sql : statements) {
+            Assertions.assertThat(explain(sql)).as(sql).doesNotContain(FULL_SCAN);
+        }
+    }
+
+    private String explain(String sql) {
+        return jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+                int parameterCount = statement.getParameterMetaData().getParameterCount();
+                for (int i = 1; i <= parameterCount; i++) {
+                    statement.setNull(i, Types.NULL);
+                }
+                StringBuilder plan = new StringBuilder();
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        plan.append(resultSet.getString(1)).append('\n');
+                    }
+                }
+                return plan.toString();
+            }
+        });
+    }
+}
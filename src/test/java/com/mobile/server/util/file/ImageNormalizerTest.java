@@ -0,0 +1,161 @@
+package com.mobile.server.util.file;
+
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.Random;
+import javax.imageio.ImageIO;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ImageNormalizerTest {
+
+    private final ImageTaskExecutor imageTaskExecutor = new ImageTaskExecutor(1, 4);
+
+    @TempDir
+    Path tempDir;
+
+    @AfterEach
+    void tearDown() {
+        imageTaskExecutor.shutdown();
+    }
+
+    @Test
+    @DisplayName("큰 PNG 는 max-edge 로 축소된 JPEG 으로 교체되고 교체된 크기를 반환한다")
+    void normalize_replacesWithSmallerJpeg() throws Exception {
+        // given
+        ImageNormalizer normalizer = new ImageNormalizer(true, 400, 0.85f, 50_000_000L, imageTaskExecutor);
+        Path source = writeNoisyPng(1200, 800);
+        long originalSize = Files.size(source);
+
+        // when
+        Optional<Long> storedSize = normalizer.normalize(source);
+
+        // then
+        Assertions.assertThat(storedSize).isPresent();
+        Assertions.assertThat(storedSize.get()).isLessThan(originalSize).isEqualTo(Files.size(source));
+        BufferedImage stored = ImageIO.read(source.toFile());
+        Assertions.assertThat(stored.getWidth()).isEqualTo(400);
+        Assertions.assertThat(stored.getHeight()).isEqualTo(267);
+    }
+
+    @Test
+    @DisplayName("비활성화 상태면 파일을 건드리지 않는다")
+    void normalize_disabled_keepsOriginal() throws Exception {
+        // given
+        ImageNormalizer normalizer = new ImageNormalizer(false, 400, 0.85f, 50_000_000L, imageTaskExecutor);
+        Path source = writeNoisyPng(1200, 800);
+        byte[] original = Files.readAllBytes(source);
+
+        // when & then
+        Assertions.assertThat(normalizer.normalize(source)).isEmpty();
+        Assertions.assertThat(Files.readAllBytes(source)).isEqualTo(original);
+    }
+
+    @Test
+    @DisplayName("max-pixels 를 넘는 이미지나 읽을 수 없는 파일은 원본을 유지한다")
+    void normalize_tooLargeOrUnreadable_keepsOriginal() throws Exception {
+        // given
+        ImageNormalizer normalizer = new ImageNormalizer(true, 400, 0.85f, 100_000L, imageTaskExecutor);
+        Path tooLarge = writeNoisyPng(1200, 800);
+        Path unreadable = Files.write(tempDir.resolve("photo.heic"), "not an image".getBytes());
+
+        // when & then
+        Assertions.assertThat(normalizer.normalize(tooLarge)).isEmpty();
+        Assertions.assertThat(normalizer.normalize(unreadable)).isEmpty();
+        Assertions.assertThat(ImageIO.read(tooLarge.toFile()).getWidth()).isEqualTo(1200);
+    }
+
+    @Test
+    @DisplayName("EXIF Orientation 이 있는 JPEG 은 회전을 픽셀에 적용한 뒤 축소한다")
+    void normalize_exifOrientation_appliesRotation() throws Exception {
+        // given (가로로 저장된 사진 + Orientation 6 = 시계 방향 90도 회전해서 표시)
+        ImageNormalizer normalizer = new ImageNormalizer(true, 400, 0.85f, 50_000_000L, imageTaskExecutor);
+        Path source = writeOrientedJpeg(1200, 600, exifOrientationSegment(6));
+
+        // when
+        Optional<Long> storedSize = normalizer.normalize(source);
+
+        // then (왼쪽 절반의 빨간색이 위쪽으로)
+        Assertions.assertThat(storedSize).isPresent();
+        BufferedImage stored = ImageIO.read(source.toFile());
+        Assertions.assertThat(stored.getWidth()).isEqualTo(200);
+        Assertions.assertThat(stored.getHeight()).isEqualTo(400);
+        Color top = new Color(stored.getRGB(100, 50));
+        Color bottom = new Color(stored.getRGB(100, 350));
+        Assertions.assertThat(top.getRed()).isGreaterThan(top.getBlue());
+        Assertions.assertThat(bottom.getBlue()).isGreaterThan(bottom.getRed());
+    }
+
+    @Test
+    @DisplayName("EXIF 가 있지만 Orientation 을 해석할 수 없으면 원본을 유지한다")
+    void normalize_unreadableExif_keepsOriginal() throws Exception {
+        // given
+        ImageNormalizer normalizer = new ImageNormalizer(true, 400, 0.85f, 50_000_000L, imageTaskExecutor);
+        Path source = writeOrientedJpeg(1200, 600, app1Segment("Exif\0\0broken".getBytes()));
+        byte[] original = Files.readAllBytes(source);
+
+        // when & then
+        Assertions.assertThat(normalizer.normalize(source)).isEmpty();
+        Assertions.assertThat(Files.readAllBytes(source)).isEqualTo(original);
+    }
+
+    //왼쪽 절반은 빨간색, 오른쪽 절반은 파란색 계열 노이즈 JPEG 의 JFIF(APP0) 뒤에 APP1 세그먼트를 삽입
+    private Path writeOrientedJpeg(int width, int height, byte[] app1) throws Exception {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Random random = new Random(42);
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
+                int noise = random.nextInt(64);
+                image.setRGB(x, y, x < width / 2 ? new Color(255 - noise, noise, noise).getRGB()
+                        : new Color(noise, noise, 255 - noise).getRGB());
+            }
+        }
+        byte[] jpeg = ImageCodec.encodeJpeg(image, 1.0f);
+        int app0End = 4 + (((jpeg[4] & 0xFF) << 8) | (jpeg[5] & 0xFF));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        output.write(jpeg, 0, app0End);
+        output.write(app1);
+        output.write(jpeg, app0End, jpeg.length - app0End);
+        return Files.write(tempDir.resolve(width + "x" + height + ".jpg"), output.toByteArray());
+    }
+
+    //big-endian TIFF, IFD0 에 Orientation(0x0112, SHORT) 항목 하나
+    private byte[] exifOrientationSegment(int orientation) {
+        return app1Segment(new byte[]{
+                'E', 'x', 'i', 'f', 0, 0,
+                'M', 'M', 0, 42, 0, 0, 0, 8,
+                0, 1,
+                0x01, 0x12, 0, 3, 0, 0, 0, 1, 0, (byte) orientation, 0, 0,
+                0, 0, 0, 0});
+    }
+
+    private byte[] app1Segment(byte[] body) {
+        ByteArrayOutputStream segment = new ByteArrayOutputStream();
+        segment.write(0xFF);
+        segment.write(0xE1);
+        segment.write((body.length + 2) >> 8);
+        segment.write((body.length + 2) & 0xFF);
+        segment.writeBytes(body);
+        return segment.toByteArray();
+    }
+
+    private Path writeNoisyPng(int width, int height) throws Exception {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Random random = new Random(42);
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
+                image.setRGB(x, y, random.nextInt(0xFFFFFF));
+            }
+        }
+        Path path = tempDir.resolve(width + "x" + height + ".png");
+        ImageIO.write(image, "png", path.toFile());
+        return path;
+    }
+}
@@ -0,0 +1,50 @@
+package com.mobile.server.util.file;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PerceptualHashIndexTest {
+
+    private final PerceptualHashIndex index = new PerceptualHashIndex(8, 5);
+
+    @Test
+    @DisplayName("해밍 거리가 radius 이하인 다른 참여만 찾는다")
+    void findSimilar_withinRadius() {
+        // given
+        long hash = 0x0123_4567_89AB_CDEFL;
+        index.add(1L, hash);
+        //조각마다 2비트씩 -> 모든 조각이 달라도 전체 거리 8 이면 찾아야 함
+        index.add(2L, hash ^ 0x0003_0003_0003_0003L);
+        index.add(3L, hash ^ 0x0007_0007_0007_0007L);
+        index.add(4L, ~hash);
+
+        // when
+        List<Long> similar = index.findSimilar(hash, 1L);
+
+        // then
+        Assertions.assertThat(similar).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("많은 해시 중에서도 가까운 해시만 찾고, 결과는 max-matches 건으로 제한한다")
+    void findSimilar_largeIndex() {
+        // given
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (long id = 100; id < 100_100; id++) {
+            index.add(id, random.nextLong());
+        }
+        long hash = random.nextLong();
+        for (long id = 1; id <= 10; id++) {
+            index.add(id, hash ^ (1L << (id * 5)));
+        }
+
+        // when
+        List<Long> similar = index.findSimilar(hash, 0L);
+
+        // then
+        Assertions.assertThat(similar).hasSize(5).allMatch(id -> id <= 10);
+    }
+}
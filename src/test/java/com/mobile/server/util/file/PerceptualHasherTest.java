@@ -0,0 +1,73 @@
+package com.mobile.server.util.file;
+
+import java.awt.image.BufferedImage;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import javax.imageio.ImageIO;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class PerceptualHasherTest {
+
+    private final ImageTaskExecutor imageTaskExecutor = new ImageTaskExecutor(1, 4);
+    private final PerceptualHasher perceptualHasher = new PerceptualHasher(50_000_000L, imageTaskExecutor);
+
+    @TempDir
+    Path tempDir;
+
+    @AfterEach
+    void tearDown() {
+        imageTaskExecutor.shutdown();
+    }
+
+    @Test
+    @DisplayName("크기를 바꿔 JPEG 으로 다시 저장한 사진은 해시가 거의 같고, 다른 사진은 멀다")
+    void hash_resizedCopyIsClose() throws Exception {
+        // given
+        BufferedImage photo = pattern(1200, 800, false);
+        Path original = write(photo, "png", "original.png");
+        Path resized = write(ImageCodec.resize(photo, 300), "jpeg", "resized.jpg");
+        Path other = write(pattern(1200, 800, true), "png", "other.png");
+
+        // when
+        long originalHash = perceptualHasher.hash(original).orElseThrow();
+        long resizedHash = perceptualHasher.hash(resized).orElseThrow();
+        long otherHash = perceptualHasher.hash(other).orElseThrow();
+
+        // then
+        Assertions.assertThat(PerceptualHasher.distance(originalHash, resizedHash)).isLessThanOrEqualTo(4);
+        Assertions.assertThat(PerceptualHasher.distance(originalHash, otherHash)).isGreaterThan(16);
+    }
+
+    @Test
+    @DisplayName("이미지로 읽을 수 없는 파일은 해시를 만들지 않는다")
+    void hash_unreadable_empty() throws Exception {
+        // given
+        Path source = Files.write(tempDir.resolve("photo.heic"), "not an image".getBytes());
+
+        // when & then
+        Assertions.assertThat(perceptualHasher.hash(source)).isEmpty();
+    }
+
+    //가로 방향 밝기 물결 (mirrored 면 좌우 반전)
+    private BufferedImage pattern(int width, int height, boolean mirrored) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        for (int x = 0; x < width; x++) {
+            int column = mirrored ? width - 1 - x : x;
+            for (int y = 0; y < height; y++) {
+                int value = (int) (127 + 120 * Math.sin(column / 70.0 + y / 150.0));
+                image.setRGB(x, y, value << 16 | value << 8 | value);
+            }
+        }
+        return image;
+    }
+
+    private Path write(BufferedImage image, String format, String name) throws Exception {
+        Path path = tempDir.resolve(name);
+        ImageIO.write(image, format, path.toFile());
+        return path;
+    }
+}
@@ -0,0 +1,65 @@
+package com.mobile.server.util.file;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PresignedUrlCacheTest {
+
+    @Test
+    @DisplayName("같은 key 는 만료 전까지 다시 서명하지 않는다")
+    void getOrSign_reusesUrl() {
+        // given
+        PresignedUrlCache cache = new PresignedUrlCache(100, Duration.ofMinutes(10), Duration.ofMinutes(2));
+        AtomicInteger signCount = new AtomicInteger();
+        BiFunction<String, Duration, String> signer = (key, ttl) -> key + "?sig=" + signCount.incrementAndGet();
+
+        // when
+        String first = cache.getOrSign("a.jpg", signer);
+        String second = cache.getOrSign("a.jpg", signer);
+
+        // then
+        Assertions.assertThat(second).isEqualTo(first);
+        Assertions.assertThat(signCount.get()).isEqualTo(1);
+        Assertions.assertThat(cache.getHitCount()).isEqualTo(1);
+        Assertions.assertThat(cache.getMissCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("safety-margin 이 유효기간 이상이면 캐시하지 않는다")
+    void getOrSign_marginCoversTtl_noCaching() {
+        // given
+        PresignedUrlCache cache = new PresignedUrlCache(100, Duration.ofMinutes(10), Duration.ofMinutes(10));
+        AtomicInteger signCount = new AtomicInteger();
+
+        // when
+        cache.getOrSign("a.jpg", (key, ttl) -> key + signCount.incrementAndGet());
+        cache.getOrSign("a.jpg", (key, ttl) -> key + signCount.incrementAndGet());
+
+        // then
+        Assertions.assertThat(signCount.get()).isEqualTo(2);
+        Assertions.assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("max-size 를 넘으면 가장 오래 사용되지 않은 URL 부터 제거한다")
+    void getOrSign_evictsLeastRecentlyUsed() {
+        // given
+        PresignedUrlCache cache = new PresignedUrlCache(2, Duration.ofMinutes(10), Duration.ofMinutes(2));
+        BiFunction<String, Duration, String> signer = (key, ttl) -> key;
+        cache.getOrSign("a", signer);
+        cache.getOrSign("b", signer);
+        cache.getOrSign("a", signer);
+
+        // when
+        cache.getOrSign("c", signer);
+        cache.getOrSign("b", signer);
+
+        // then - b 는 제거되었다가 다시 서명됨
+        Assertions.assertThat(cache.getMissCount()).isEqualTo(4);
+        Assertions.assertThat(cache.size()).isEqualTo(2);
+    }
+}
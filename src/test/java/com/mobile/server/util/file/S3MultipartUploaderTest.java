@@ -0,0 +1,191 @@
+package com.mobile.server.util.file;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+class S3MultipartUploaderTest {
+
+    private static final int MB = 1024 * 1024;
+
+    @Test
+    @DisplayName("큰 파일은 part 크기 단위로 나뉘어 업로드되고, 힙 할당량은 파일 크기와 무관하게 part 버퍼 수준이다")
+    void upload_largeFile_streamsInParts() throws IOException {
+        // given
+        CountingS3Client s3Client = new CountingS3Client();
+        S3MultipartUploader uploader = new S3MultipartUploader(s3Client, DataSize.ofMegabytes(5));
+        long fileSize = 64L * MB + 123;
+
+        // when
+        long allocated = allocatedBytes(() -> uploader.upload("bucket", "key", new GeneratedInputStream(fileSize),
+                "image/jpeg"));
+
+        // then
+        Assertions.assertThat(s3Client.partSizes).hasSize(13);
+        Assertions.assertThat(s3Client.receivedBytes).isEqualTo(fileSize);
+        Assertions.assertThat(s3Client.peakPartBytes).isEqualTo(5L * MB);
+        Assertions.assertThat(s3Client.completed).isTrue();
+        Assertions.assertThat(allocated).isLessThan(3L * uploader.getPartSize());
+    }
+
+    @Test
+    @DisplayName("part 크기보다 작은 파일은 단일 PutObject 로 업로드된다")
+    void upload_smallFile_usesPutObject() throws IOException {
+        // given
+        CountingS3Client s3Client = new CountingS3Client();
+        S3MultipartUploader uploader = new S3MultipartUploader(s3Client, DataSize.ofMegabytes(5));
+
+        // when
+        uploader.upload("bucket", "key", new GeneratedInputStream(MB), "image/jpeg");
+
+        // then
+        Assertions.assertThat(s3Client.putObjectCount).isEqualTo(1);
+        Assertions.assertThat(s3Client.partSizes).isEmpty();
+        Assertions.assertThat(s3Client.receivedBytes).isEqualTo(MB);
+    }
+
+    @Test
+    @DisplayName("업로드 도중 실패하면 멀티파트 업로드를 중단한다")
+    void upload_failure_abortsMultipart() {
+        // given
+        CountingS3Client s3Client = new CountingS3Client();
+        s3Client.failOnPart = 2;
+        S3MultipartUploader uploader = new S3MultipartUploader(s3Client, DataSize.ofMegabytes(5));
+
+        // when & then
+        Assertions.assertThatThrownBy(() -> uploader.upload("bucket", "key", new GeneratedInputStream(20L * MB),
+                "image/jpeg")).isInstanceOf(IllegalStateException.class);
+        Assertions.assertThat(s3Client.aborted).isTrue();
+        Assertions.assertThat(s3Client.completed).isFalse();
+    }
+
+    private long allocatedBytes(IoRunnable runnable) throws IOException {
+        com.sun.management.ThreadMXBean bean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long before = bean.getCurrentThreadAllocatedBytes();
+        runnable.run();
+        return bean.getCurrentThreadAllocatedBytes() - before;
+    }
+
+    private interface IoRunnable {
+        void run() throws IOException;
+    }
+
+    //요청 본문 역할: 메모리에 파일을 만들지 않고 지정한 크기만큼 바이트를 생성
+    private static class GeneratedInputStream extends InputStream {
+        private long remaining;
+
+        GeneratedInputStream(long size) {
+            this.remaining = size;
+        }
+
+        @Override
+        public int read() {
+            if (remaining <= 0) {
+                return -1;
+            }
+            remaining--;
+            return 'x';
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int n = (int) Math.min(len, remaining);
+            Arrays.fill(b, off, off + n, (byte) 'x');
+            remaining -= n;
+            return n;
+        }
+    }
+
+    //로컬 S3 대역: 받은 part 크기와 최대 동시 보유 바이트를 기록 (내용은 작은 버퍼로 읽고 버림)
+    private static class CountingS3Client implements S3Client {
+        private final List<Long> partSizes = new ArrayList<>();
+        private final byte[] sink = new byte[8192];
+        private long receivedBytes;
+        private long peakPartBytes;
+        private int putObjectCount;
+        private int failOnPart = -1;
+        private boolean completed;
+        private boolean aborted;
+
+        @Override
+        public CreateMultipartUploadResponse createMultipartUpload(CreateMultipartUploadRequest request) {
+            return CreateMultipartUploadResponse.builder().uploadId(UUID.randomUUID().toString()).build();
+        }
+
+        @Override
+        public UploadPartResponse uploadPart(UploadPartRequest request, RequestBody requestBody) {
+            if (request.partNumber() == failOnPart) {
+                throw new IllegalStateException("part upload failed");
+            }
+            long size = consume(requestBody);
+            partSizes.add(size);
+            peakPartBytes = Math.max(peakPartBytes, size);
+            return UploadPartResponse.builder().eTag("etag-" + request.partNumber()).build();
+        }
+
+        @Override
+        public PutObjectResponse putObject(PutObjectRequest request, RequestBody requestBody) {
+            putObjectCount++;
+            consume(requestBody);
+            return PutObjectResponse.builder().build();
+        }
+
+        @Override
+        public CompleteMultipartUploadResponse completeMultipartUpload(CompleteMultipartUploadRequest request) {
+            completed = true;
+            return CompleteMultipartUploadResponse.builder().build();
+        }
+
+        @Override
+        public AbortMultipartUploadResponse abortMultipartUpload(AbortMultipartUploadRequest request) {
+            aborted = true;
+            return AbortMultipartUploadResponse.builder().build();
+        }
+
+        private long consume(RequestBody requestBody) {
+            long size = 0;
+            try (InputStream in = requestBody.contentStreamProvider().newStream()) {
+                int n;
+                while ((n = in.read(sink)) != -1) {
+                    size += n;
+                }
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+            receivedBytes += size;
+            return size;
+        }
+
+        @Override
+        public String serviceName() {
+            return "s3";
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,303 @@
+package com.mobile.server.util.file;
+
+import com.mobile.server.config.FakeS3Uploader;
+import com.mobile.server.domain.file.constant.UploadStatus;
+import com.mobile.server.domain.file.domain.File;
+import com.mobile.server.domain.file.dto.FileDetailDto;
+import com.mobile.server.domain.file.respository.FileRepository;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import javax.imageio.ImageIO;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+//비동기 업로드는 커밋된 데이터를 다른 스레드에서 읽으므로 테스트 트랜잭션 없이 실행
+@SpringBootTest
+@ActiveProfiles("test")
+class S3UploadDispatcherTest {
+
+    @Autowired
+    private S3UploadDispatcher uploadDispatcher;
+
+    @Autowired
+    private UploadSpool uploadSpool;
+
+    @Autowired
+    private FileRepository fileRepository;
+
+    @Autowired
+    private FakeS3Uploader fakeS3Uploader;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @AfterEach
+    void tearDown() {
+        fakeS3Uploader.releaseBytesUploads();
+        fileRepository.deleteAll();
+        fakeS3Uploader.clearStorage();
+    }
+
+    @Test
+    @DisplayName("스풀된 파일은 S3 에 업로드되고 UPLOADED 로 변경되며 스풀에서 삭제된다")
+    void dispatch_uploadsSpooledFile() throws Exception {
+        // given
+        String key = savePendingFile();
+        spool(key, new MockMultipartFile("photo", "photo.jpg", "image/jpeg", "photo".getBytes()));
+
+        // when
+        uploadDispatcher.dispatch(key, "image/jpeg");
+
+        // then
+        Assertions.assertThat(awaitStatus(key, UploadStatus.UPLOADED)).isTrue();
+        Assertions.assertThat(fakeS3Uploader.getStoredFile(key)).isEqualTo("photo".getBytes());
+        Assertions.assertThat(uploadSpool.exists(key)).isFalse();
+        File stored = fileRepository.findAll().stream()
+                .filter(file -> file.getFileKey().equals(key)).findFirst().orElseThrow();
+        Assertions.assertThat(stored.getStoredFileSize()).isEqualTo(5L);
+    }
+
+    @Test
+    @DisplayName("이미지 업로드 후 썸네일이 sibling key 로 업로드되고 File 에 기록된다")
+    void dispatch_createsThumbnail() throws Exception {
+        // given
+        String key = savePendingFile();
+        writePngSpool(key);
+
+        // when
+        uploadDispatcher.dispatch(key, "image/png");
+
+        // then
+        Assertions.assertThat(awaitStatus(key, UploadStatus.UPLOADED)).isTrue();
+        String thumbnailKey = ThumbnailGenerator.thumbnailKeyOf(key);
+        Assertions.assertThat(awaitThumbnail(key)).isEqualTo(thumbnailKey);
+        BufferedImage thumbnail = ImageIO.read(new ByteArrayInputStream(fakeS3Uploader.getStoredFile(thumbnailKey)));
+        Assertions.assertThat(thumbnail.getWidth()).isEqualTo(320);
+    }
+
+    @Test
+    @DisplayName("재시작 후 남아 있는 PENDING 업로드가 재개된다")
+    void resumePending_uploadsRemainingFiles() throws Exception {
+        // given
+        String key = savePendingFile();
+        spool(key, new MockMultipartFile("photo", "photo.jpg", "image/jpeg", "photo".getBytes()));
+
+        // when
+        uploadDispatcher.resumePending();
+
+        // then
+        Assertions.assertThat(awaitStatus(key, UploadStatus.UPLOADED)).isTrue();
+        Assertions.assertThat(fakeS3Uploader.exists(key)).isTrue();
+    }
+
+    @Test
+    @DisplayName("스풀 파일이 없으면 missing-spool-grace 가 지난 제출만 FAILED 로 변경되고 최근 제출은 PENDING 으로 남는다")
+    void dispatch_missingSpoolFile_marksOnlyStaleFailed() throws Exception {
+        // given - 오래된 제출 + 다른 인스턴스의 스풀에 있을 수 있는 최근 제출 (같은 key)
+        String key = savePendingFile();
+        jdbcTemplate.update("UPDATE file SET created_at = ? WHERE file_key = ?",
+                LocalDateTime.now().minusHours(2), key);
+        fileRepository.save(File.ofPendingParticipation(null, detailOf(key)));
+
+        // when
+        uploadDispatcher.dispatch(key, "image/jpeg");
+
+        // then
+        Assertions.assertThat(awaitStatus(key, UploadStatus.FAILED)).isTrue();
+        Assertions.assertThat(findAllByKey(key)).extracting(File::getUploadStatus)
+                .containsExactlyInAnyOrder(UploadStatus.FAILED, UploadStatus.PENDING);
+        Assertions.assertThat(fakeS3Uploader.exists(key)).isFalse();
+    }
+
+    @Test
+    @DisplayName("같은 key 가 이미 업로드됐으면 스풀 파일이 없어도 FAILED 가 아닌 저장 결과를 복사해 UPLOADED 로 변경된다")
+    void dispatch_keyAlreadyUploaded_adoptsStoredFile() throws Exception {
+        // given - 먼저 제출한 쪽이 업로드 후 스풀을 지운 뒤 같은 내용의 제출이 커밋된 상황
+        String key = UUID.randomUUID() + "_photo.jpg";
+        fileRepository.save(File.ofParticipation(null, detailOf(key)));
+        fileRepository.updateStoredFile(key, 3L, "image/jpeg");
+        fileRepository.save(File.ofPendingParticipation(null, detailOf(key)));
+
+        // when
+        uploadDispatcher.dispatch(key, "image/jpeg");
+
+        // then
+        Assertions.assertThat(awaitNoPending(key)).isTrue();
+        List<File> references = findAllByKey(key);
+        Assertions.assertThat(references).hasSize(2)
+                .allMatch(file -> file.getUploadStatus() == UploadStatus.UPLOADED);
+        Assertions.assertThat(references).extracting(File::getStoredFileSize).containsOnly(3L);
+        Assertions.assertThat(fakeS3Uploader.exists(key)).isFalse();
+    }
+
+    @Test
+    @DisplayName("이미 정규화 단계를 거친 key 가 재개되면 다시 정규화하지 않고 기록된 저장 결과를 새 제출에도 기록한다")
+    void dispatch_alreadyNormalized_reusesStoredFile() throws Exception {
+        // given - 정규화 후 업로드 전에 중단된 제출 + 그 뒤 커밋된 같은 내용의 제출
+        String key = savePendingFile();
+        fileRepository.updateStoredFile(key, 3L, "image/jpeg");
+        fileRepository.save(File.ofPendingParticipation(null, detailOf(key)));
+        spool(key, new MockMultipartFile("photo", "photo.jpg", "image/jpeg", "photo".getBytes()));
+
+        // when
+        uploadDispatcher.dispatch(key, "image/png");
+
+        // then
+        Assertions.assertThat(awaitNoPending(key)).isTrue();
+        List<File> references = findAllByKey(key);
+        Assertions.assertThat(references).hasSize(2)
+                .allMatch(file -> file.getUploadStatus() == UploadStatus.UPLOADED);
+        Assertions.assertThat(references).extracting(File::getStoredFileSize).containsOnly(3L);
+        Assertions.assertThat(references).extracting(File::getFileType).containsOnly("image/jpeg");
+    }
+
+    @Test
+    @DisplayName("업로드 처리 중 같은 key 로 dispatch 되면 끝난 뒤 다시 실행해 그 사이 커밋된 제출도 UPLOADED 로 변경된다")
+    void dispatch_whileInFlight_requeuesAfterCompletion() throws Exception {
+        // given - 원본 업로드/UPLOADED 변경 후 썸네일 업로드에서 멈춘 상태
+        String key = savePendingFile();
+        writePngSpool(key);
+        fakeS3Uploader.holdBytesUploads();
+        uploadDispatcher.dispatch(key, "image/png");
+        Assertions.assertThat(fakeS3Uploader.awaitHeldBytesUpload()).isTrue();
+
+        // when - 같은 내용의 제출이 커밋되어 dispatch
+        fileRepository.save(File.ofPendingParticipation(null, detailOf(key)));
+        uploadDispatcher.dispatch(key, "image/png");
+        fakeS3Uploader.releaseBytesUploads();
+
+        // then
+        Assertions.assertThat(awaitNoPending(key)).isTrue();
+        Assertions.assertThat(findAllByKey(key)).hasSize(2)
+                .allMatch(file -> file.getUploadStatus() == UploadStatus.UPLOADED);
+    }
+
+    @Test
+    @DisplayName("업로드 처리 중 같은 key 의 제출이 롤백되어도 처리 중인 스풀 파일은 삭제되지 않는다")
+    void dispatchAfterCommit_rolledBackWhileInFlight_keepsSpool() throws Exception {
+        // given - UPLOADED 변경 후 썸네일 업로드에서 멈춘 상태 (PENDING 행 없음)
+        String key = savePendingFile();
+        writePngSpool(key);
+        fakeS3Uploader.holdBytesUploads();
+        uploadDispatcher.dispatch(key, "image/png");
+        Assertions.assertThat(fakeS3Uploader.awaitHeldBytesUpload()).isTrue();
+
+        // when
+        transactionTemplate.executeWithoutResult(status -> {
+            uploadDispatcher.dispatchAfterCommit(key, "image/png");
+            status.setRollbackOnly();
+        });
+
+        // then
+        Assertions.assertThat(uploadSpool.exists(key)).isTrue();
+        fakeS3Uploader.releaseBytesUploads();
+        Assertions.assertThat(awaitPerceptualHash(key)).isNotNull();
+        Assertions.assertThat(awaitNoSpool(key)).isTrue();
+    }
+
+    private void writePngSpool(String key) throws Exception {
+        ByteArrayOutputStream png = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(1000, 500, BufferedImage.TYPE_INT_RGB), "png", png);
+        spool(key, new MockMultipartFile("photo", "photo.png", "image/png", png.toByteArray()));
+    }
+
+    //제출 경로와 같이 해시 계산용 임시 파일에 쓴 뒤 key 위치로 이동
+    private void spool(String key, MockMultipartFile file) {
+        uploadSpool.commit(uploadSpool.writeHashed(file), key);
+    }
+
+    private String savePendingFile() {
+        String key = UUID.randomUUID() + "_photo.jpg";
+        fileRepository.save(File.ofPendingParticipation(null, detailOf(key)));
+        return key;
+    }
+
+    private FileDetailDto detailOf(String key) {
+        return FileDetailDto.builder()
+                .originalFileName("photo.jpg")
+                .key(key)
+                .contentType("image/jpeg")
+                .fileSize(5L)
+                .build();
+    }
+
+    private List<File> findAllByKey(String key) {
+        return fileRepository.findAll().stream()
+                .filter(file -> file.getFileKey().equals(key))
+                .toList();
+    }
+
+    private boolean awaitNoPending(String key) throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            if (!fileRepository.existsByFileKeyAndUploadStatus(key, UploadStatus.PENDING)) {
+                return true;
+            }
+            Thread.sleep(50);
+        }
+        return false;
+    }
+
+    private String awaitThumbnail(String key) throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            String thumbnailKey = fileRepository.findAll().stream()
+                    .filter(file -> file.getFileKey().equals(key))
+                    .map(File::getThumbnailKey)
+                    .findFirst().orElse(null);
+            if (thumbnailKey != null) {
+                return thumbnailKey;
+            }
+            Thread.sleep(50);
+        }
+        return null;
+    }
+
+    //지각 해시는 썸네일 이후 스풀 파일을 읽어 계산
+    private Long awaitPerceptualHash(String key) throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            Long hash = fileRepository.findAll().stream()
+                    .filter(file -> file.getFileKey().equals(key))
+                    .map(File::getPerceptualHash)
+                    .findFirst().orElse(null);
+            if (hash != null) {
+                return hash;
+            }
+            Thread.sleep(50);
+        }
+        return null;
+    }
+
+    private boolean awaitNoSpool(String key) throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            if (!uploadSpool.exists(key)) {
+                return true;
+            }
+            Thread.sleep(50);
+        }
+        return false;
+    }
+
+    private boolean awaitStatus(String key, UploadStatus expected) throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            if (fileRepository.existsByFileKeyAndUploadStatus(key, expected)) {
+                return true;
+            }
+            Thread.sleep(50);
+        }
+        return false;
+    }
+}
@@ -0,0 +1,114 @@
+package com.mobile.server.util.file;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import javax.imageio.ImageIO;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ThumbnailGeneratorTest {
+
+    private final ImageTaskExecutor imageTaskExecutor = new ImageTaskExecutor(1, 4);
+    private final ThumbnailGenerator thumbnailGenerator = new ThumbnailGenerator(320, 0.8f, 50_000_000L,
+            imageTaskExecutor);
+
+    @TempDir
+    Path tempDir;
+
+    @AfterEach
+    void tearDown() {
+        imageTaskExecutor.shutdown();
+    }
+
+    @Test
+    @DisplayName("긴 변이 max-edge 가 되도록 비율을 유지해 JPEG 썸네일을 만든다")
+    void generate_resizesToMaxEdge() throws Exception {
+        // given
+        Path source = writePng(1200, 800);
+
+        // when
+        Optional<byte[]> thumbnail = thumbnailGenerator.generate(source);
+
+        // then
+        Assertions.assertThat(thumbnail).isPresent();
+        BufferedImage decoded = ImageIO.read(new ByteArrayInputStream(thumbnail.get()));
+        Assertions.assertThat(decoded.getWidth()).isEqualTo(320);
+        Assertions.assertThat(decoded.getHeight()).isEqualTo(213);
+        Assertions.assertThat(thumbnail.get().length).isLessThan((int) Files.size(source));
+    }
+
+    @Test
+    @DisplayName("max-edge 보다 작은 이미지는 확대하지 않는다")
+    void generate_smallImage_keepsSize() throws Exception {
+        // given
+        Path source = writePng(100, 50);
+
+        // when
+        BufferedImage decoded = ImageIO.read(new ByteArrayInputStream(thumbnailGenerator.generate(source).orElseThrow()));
+
+        // then
+        Assertions.assertThat(decoded.getWidth()).isEqualTo(100);
+        Assertions.assertThat(decoded.getHeight()).isEqualTo(50);
+    }
+
+    @Test
+    @DisplayName("이미지로 읽을 수 없는 파일은 썸네일을 만들지 않는다")
+    void generate_unreadable_empty() throws Exception {
+        // given
+        Path source = Files.write(tempDir.resolve("photo.heic"), "not an image".getBytes());
+
+        // when & then
+        Assertions.assertThat(thumbnailGenerator.generate(source)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("EXIF Orientation 이 회전(8)인 JPEG 은 세로 썸네일로 만든다")
+    void generate_exifOrientation_rotates() throws Exception {
+        // given (가로 1200x800 으로 저장된 사진 + Orientation 8 = 반시계 방향 90도 회전해서 표시)
+        byte[] jpeg = ImageCodec.encodeJpeg(ImageCodec.resize(ImageIO.read(writePng(1200, 800).toFile()), 1200), 0.9f);
+        Path source = Files.write(tempDir.resolve("rotated.jpg"), withExifOrientation(jpeg, 8));
+
+        // when
+        BufferedImage decoded = ImageIO.read(new ByteArrayInputStream(thumbnailGenerator.generate(source).orElseThrow()));
+
+        // then
+        Assertions.assertThat(decoded.getWidth()).isEqualTo(213);
+        Assertions.assertThat(decoded.getHeight()).isEqualTo(320);
+    }
+
+    //JFIF(APP0) 바로 뒤에 Orientation 하나만 있는 EXIF APP1 세그먼트 삽입 (big-endian TIFF)
+    private byte[] withExifOrientation(byte[] jpeg, int orientation) {
+        byte[] app1 = {
+                (byte) 0xFF, (byte) 0xE1, 0, 34,
+                'E', 'x', 'i', 'f', 0, 0,
+                'M', 'M', 0, 42, 0, 0, 0, 8,
+                0, 1,
+                0x01, 0x12, 0, 3, 0, 0, 0, 1, 0, (byte) orientation, 0, 0,
+                0, 0, 0, 0};
+        int app0End = 4 + (((jpeg[4] & 0xFF) << 8) | (jpeg[5] & 0xFF));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        output.write(jpeg, 0, app0End);
+        output.writeBytes(app1);
+        output.write(jpeg, app0End, jpeg.length - app0End);
+        return output.toByteArray();
+    }
+
+    private Path writePng(int width, int height) throws Exception {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
+                image.setRGB(x, y, 0xFF000000 | (x * 7 + y * 13) % 0xFFFFFF);
+            }
+        }
+        Path path = tempDir.resolve(width + "x" + height + ".png");
+        ImageIO.write(image, "png", path.toFile());
+        return path;
+    }
+}